@@ -5,15 +5,54 @@ plugins {
 group = "org.maximum0"
 version = "1.0-SNAPSHOT"
 
+val jmhVersion = "1.37"
+
 repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// ./gradlew jmh -Pjmh.includes=StreamFilter -Pjmh.profilers=gc
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks in src/jmh/java."
+
+    val includes = providers.gradleProperty("jmh.includes").getOrElse(".*")
+    val profilers = providers.gradleProperty("jmh.profilers").getOrElse("gc")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results-${project.version}.json")
+
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(includes)
+    profilers.split(",").filter { it.isNotBlank() }.forEach { args("-prof", it.trim()) }
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
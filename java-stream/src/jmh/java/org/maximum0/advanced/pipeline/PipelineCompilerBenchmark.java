@@ -0,0 +1,88 @@
+package org.maximum0.advanced.pipeline;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.maximum0.advanced.model.Order;
+import org.maximum0.advanced.model.Order.OrderStatus;
+import org.maximum0.advanced.model.OrderLine;
+import org.maximum0.advanced.pipeline.PipelineCompiler.Strategy;
+import org.maximum0.advanced.processor.OrderLineAggregationPriceProcessor;
+import org.maximum0.advanced.processor.TaxPriceProcessor;
+import org.maximum0.common.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * andThen 체인과 PipelineCompiler 실행기의 호출 오버헤드 비교 벤치마크. (단계 수: 2, 10, 50)
+ * 여러 종류의 처리기를 섞어 실제 파이프라인처럼 호출 지점이 메가모픽이 되도록 구성합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineCompilerBenchmark {
+    @Param({"2", "10", "50"})
+    public int numberOfProcessors;
+
+    private Order order;
+    private Function<Order, Order> andThenChain;
+    private Function<Order, Order> arrayPipeline;
+    private Function<Order, Order> methodHandlePipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Function<Order, Order>> kinds = Arrays.asList(
+                new TaxPriceProcessor(new BigDecimal("1")),
+                o -> o.setStatus(OrderStatus.IN_PROGRESS),
+                o -> o.setCreatedByUserId(o.getCreatedByUserId() + 1),
+                new OrderLineAggregationPriceProcessor(),
+                o -> o.setStatus(OrderStatus.PROCESSED));
+
+        // 첫 단계에서 주문 라인 금액을 다시 합산하므로, 반복 호출해도 금액이 누적되지 않습니다.
+        List<Function<Order, Order>> processors = new ArrayList<>();
+        processors.add(new OrderLineAggregationPriceProcessor());
+        for (int i = 1; i < numberOfProcessors; i++) {
+            processors.add(kinds.get(i % kinds.size()));
+        }
+
+        order = new Order()
+                .setId(1001L)
+                .setOrderLines(Arrays.asList(
+                        new OrderLine().setAmount(Money.of(1000)),
+                        new OrderLine().setAmount(Money.of(2000))));
+        andThenChain = processors.stream().reduce(Function.identity(), Function::andThen);
+        arrayPipeline = PipelineCompiler.compile(processors, Strategy.ARRAY);
+        methodHandlePipeline = PipelineCompiler.compile(processors, Strategy.METHOD_HANDLE);
+    }
+
+    @Benchmark
+    public Order andThenChain() {
+        return andThenChain.apply(order);
+    }
+
+    @Benchmark
+    public Order arrayPipeline() {
+        return arrayPipeline.apply(order);
+    }
+
+    @Benchmark
+    public Order methodHandlePipeline() {
+        return methodHandlePipeline.apply(order);
+    }
+}
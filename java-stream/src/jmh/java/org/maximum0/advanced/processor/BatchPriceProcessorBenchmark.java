@@ -0,0 +1,71 @@
+package org.maximum0.advanced.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.maximum0.advanced.FunctionalComposition;
+import org.maximum0.advanced.model.Order;
+import org.maximum0.advanced.model.OrderLine;
+import org.maximum0.common.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 주문마다 합성된 파이프라인을 호출하는 방식과 배치 단위로 단계를 통과시키는 방식의 비교 벤치마크.
+ * 첫 단계(OrderLineAggregationPriceProcessor)가 금액을 다시 합산하므로 반복 실행해도 금액이 누적되지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BatchPriceProcessorBenchmark {
+    @Param({"64", "1024", "16384"})
+    public int batchSize;
+
+    private List<Order> orders;
+    private List<Function<Order, Order>> priceProcessors;
+    private Function<Order, Order> mergedPriceProcessors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        orders = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            List<OrderLine> orderLines = new ArrayList<>();
+            int numberOfLines = random.nextInt(1, 5);
+            for (int j = 0; j < numberOfLines; j++) {
+                orderLines.add(new OrderLine().setAmount(Money.ofMinor(random.nextLong(100, 100_000))));
+            }
+            orders.add(new Order().setId(i).setOrderLines(orderLines));
+        }
+        priceProcessors = FunctionalComposition.getPriceProcessors();
+        mergedPriceProcessors = priceProcessors.stream().reduce(Function.identity(), Function::andThen);
+    }
+
+    @Benchmark
+    public void perOrder(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(mergedPriceProcessors.apply(order));
+        }
+    }
+
+    @Benchmark
+    public List<Order> inBatches() {
+        return FunctionalComposition.processInBatches(orders, priceProcessors, batchSize);
+    }
+}
@@ -0,0 +1,97 @@
+package org.maximum0.advanced.processor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.maximum0.advanced.model.Order;
+import org.maximum0.advanced.model.OrderLine;
+import org.maximum0.common.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 주문마다 세율을 다시 계산하던 기존 방식과 TaxEngine(미리 계산된 세율)의 비교 벤치마크.
+ * 주문을 변경하면 반복 측정 시 금액이 누적되므로, 세금이 포함된 금액만 계산하여 소비합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TaxEngineBenchmark {
+    private static final BigDecimal RATE = new BigDecimal("9.375");
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"1000000"})
+        public int size;
+
+        public List<Order> orders;
+        public TaxEngine flatEngine;
+        public TaxEngine categoryEngine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42L);
+            orders = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                List<OrderLine> orderLines = new ArrayList<>();
+                int numberOfLines = random.nextInt(1, 5);
+                for (int j = 0; j < numberOfLines; j++) {
+                    orderLines.add(new OrderLine()
+                            .setProductId(random.nextInt(1, 10_000))
+                            .setAmount(Money.ofMinor(random.nextLong(100, 100_000))));
+                }
+                orders.add(new Order()
+                        .setId(i)
+                        .setOrderLines(orderLines)
+                        .setAmount(Money.sum(orderLines, OrderLine::getAmount)));
+            }
+
+            flatEngine = TaxEngine.flat(RATE);
+            categoryEngine = TaxEngine.builder(RATE)
+                    .with(builder -> {
+                        builder.brackets.put(Money.of(1_000), new BigDecimal("12.5"));
+                        builder.categoryOf = productId -> productId % 10 == 0 ? "FOOD" : null;
+                        builder.categoryRates.put("FOOD", new BigDecimal("5"));
+                    })
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void recomputedRatePerOrder(Data data, Blackhole blackhole) {
+        for (Order order : data.orders) {
+            BigDecimal taxed = order.getAmount().toBigDecimal()
+                    .multiply(RATE.divide(new BigDecimal(100)).add(BigDecimal.ONE));
+            blackhole.consume(Money.of(taxed));
+        }
+    }
+
+    @Benchmark
+    public void precomputedFlatRate(Data data, Blackhole blackhole) {
+        for (Order order : data.orders) {
+            blackhole.consume(data.flatEngine.taxedAmount(order));
+        }
+    }
+
+    @Benchmark
+    public void precomputedBracketAndCategoryRates(Data data, Blackhole blackhole) {
+        for (Order order : data.orders) {
+            blackhole.consume(data.categoryEngine.taxedAmount(order));
+        }
+    }
+}
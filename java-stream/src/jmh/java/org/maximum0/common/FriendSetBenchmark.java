@@ -0,0 +1,128 @@
+package org.maximum0.common;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 친구 ID를 List<Integer>로 보관하는 방식과 FriendSet의 비교 벤치마크.
+ *
+ * - build*: 모든 사용자의 친구 집합 생성. 메모리 사용량은 -prof gc의 gc.alloc.rate.norm(연산당 할당 바이트)으로 비교합니다.
+ * - contains*: 사용자마다 임의의 ID가 친구인지 확인
+ * - mutualFriends*: 이웃한 두 사용자의 공통 친구 수 계산
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class FriendSetBenchmark {
+    @Param({"1000000", "10000000"})
+    public int users;
+
+    @Param({"20"})
+    public int maxFriendsPerUser;
+
+    private int[][] rawFriendIds;
+    private int[] probes;
+    private List<List<Integer>> friendLists;
+    private FriendSet[] friendSets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        rawFriendIds = new int[users][];
+        probes = new int[users];
+        for (int i = 0; i < users; i++) {
+            // 친구는 가까운 ID 범위에서 고르므로 이웃한 사용자끼리 공통 친구가 생깁니다.
+            int[] ids = new int[random.nextInt(maxFriendsPerUser + 1)];
+            for (int j = 0; j < ids.length; j++) {
+                ids[j] = Math.floorMod(i + random.nextInt(-1_000, 1_000), users);
+            }
+            rawFriendIds[i] = ids;
+            probes[i] = Math.floorMod(i + random.nextInt(-1_000, 1_000), users);
+        }
+        friendLists = buildLists();
+        friendSets = buildFriendSets();
+    }
+
+    @Benchmark
+    public List<List<Integer>> buildLists() {
+        List<List<Integer>> lists = new ArrayList<>(users);
+        for (int[] ids : rawFriendIds) {
+            List<Integer> list = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                list.add(id);
+            }
+            lists.add(list);
+        }
+        return lists;
+    }
+
+    @Benchmark
+    public FriendSet[] buildFriendSets() {
+        FriendSet[] sets = new FriendSet[users];
+        for (int i = 0; i < users; i++) {
+            sets[i] = FriendSet.of(rawFriendIds[i]);
+        }
+        return sets;
+    }
+
+    @Benchmark
+    public int containsList() {
+        int hits = 0;
+        for (int i = 0; i < users; i++) {
+            if (friendLists.get(i).contains(probes[i])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int containsFriendSet() {
+        int hits = 0;
+        for (int i = 0; i < users; i++) {
+            if (friendSets[i].contains(probes[i])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public long mutualFriendsList() {
+        long mutualFriends = 0;
+        for (int i = 1; i < users; i++) {
+            Set<Integer> common = new HashSet<>(friendLists.get(i - 1));
+            common.retainAll(friendLists.get(i));
+            mutualFriends += common.size();
+        }
+        return mutualFriends;
+    }
+
+    @Benchmark
+    public long mutualFriendsFriendSet() {
+        long mutualFriends = 0;
+        for (int i = 1; i < users; i++) {
+            mutualFriends += friendSets[i - 1].intersectionSize(friendSets[i]);
+        }
+        return mutualFriends;
+    }
+}
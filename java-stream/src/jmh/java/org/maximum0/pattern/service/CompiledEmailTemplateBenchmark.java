@@ -0,0 +1,87 @@
+package org.maximum0.pattern.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.maximum0.pattern.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 문자열 연결로 본문을 만드는 기존 EmailProvider와 CompiledEmailTemplate(render/renderTo/cached)의 비교 벤치마크.
+ * 사용자 한 명의 본문 생성이 한 번의 연산이며, distinctNames로 캐시 적중률을 조절합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CompiledEmailTemplateBenchmark {
+    private static final int USERS = 1_000_000;
+
+    @Param({"1000", "1000000"})
+    public int distinctNames;
+
+    private List<User> users;
+    private EmailProvider concatenation;
+    private CompiledEmailTemplate template;
+    private EmailProvider cachedTemplate;
+    private final StringBuilder outbound = new StringBuilder(256);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder(i, "User" + (i % distinctNames)).build());
+        }
+        concatenation = user -> "'Make More Friends' email for " + user.getName();
+        template = CompiledEmailTemplate.compile("'Make More Friends' email for {name}");
+        cachedTemplate = template.cached(distinctNames);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void concatenation(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(concatenation.getEmail(user));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void compiledRender(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(template.render(user));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void compiledRenderToBuffer(Blackhole blackhole) {
+        for (User user : users) {
+            outbound.setLength(0);
+            blackhole.consume(template.renderTo(user, outbound).length());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void compiledCached(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(cachedTemplate.getEmail(user));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.maximum0.stream;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.Order;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 주문(Order) 파이프라인 벤치마크용 데이터 상태.
+ * 데이터 크기(size)와 순차/병렬 여부(parallel)를 파라미터로 받아 동일한 시드로 재현 가능한 주문 목록을 만듭니다.
+ */
+@State(Scope.Benchmark)
+public class OrderState {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    public LocalDateTime now;
+    public List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> {
+                    builder.userCount = Math.max(1, size / 10);
+                    builder.startAt = LocalDateTime.of(2025, 11, 1, 12, 0);
+                    builder.period = Duration.ofDays(30);
+                    builder.maxLinesPerOrder = 4;
+                })
+                .build();
+        now = spec.getStartAt().plus(spec.getPeriod());
+        orders = new DatasetGenerator(spec).orders(size).collect(Collectors.toList());
+    }
+
+    public Stream<Order> stream() {
+        return parallel ? orders.parallelStream() : orders.stream();
+    }
+}
@@ -0,0 +1,48 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StreamCollectGroup 파이프라인 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamCollectGroupBenchmark {
+
+    @Benchmark
+    public Map<OrderStatus, Money> sumOfAmountByStatus(OrderState state) {
+        return state.stream()
+                .collect(Collectors.groupingBy(Order::getStatus,
+                        Collectors.mapping(Order::getAmount,
+                                Collectors.reducing(Money.ZERO, Money::plus))));
+    }
+
+    @Benchmark
+    public Map<OrderStatus, Money> sumOfAmountByStatusWithSumming(OrderState state) {
+        return state.stream()
+                .collect(Collectors.groupingBy(Order::getStatus, Money.summing(Order::getAmount)));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<User>> partitionUsersByNumberOfFriends(UserState state) {
+        return state.stream()
+                .collect(Collectors.partitioningBy(user -> user.getFriends().size() > 5));
+    }
+}
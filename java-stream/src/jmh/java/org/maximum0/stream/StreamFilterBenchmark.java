@@ -0,0 +1,49 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StreamFilter 파이프라인 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamFilterBenchmark {
+
+    @Benchmark
+    public List<User> verifiedUsers(UserState state) {
+        return state.stream()
+                .filter(User::isVerified)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Order> errorOrders(OrderState state) {
+        return state.stream()
+                .filter(order -> order.getStatus().equals(OrderStatus.ERROR))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> recentErrorOrdersUserIds(OrderState state) {
+        return state.stream()
+                .filter(order -> order.getStatus().equals(OrderStatus.ERROR))
+                .filter(order -> order.getCreatedAt().isAfter(state.now.minusHours(12)))
+                .map(Order::getCreatedByUserId)
+                .collect(Collectors.toList());
+    }
+}
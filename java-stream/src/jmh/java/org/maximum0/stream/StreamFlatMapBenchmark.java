@@ -0,0 +1,33 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.OrderLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StreamFlatMap 파이프라인 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamFlatMapBenchmark {
+
+    @Benchmark
+    public List<OrderLine> mergedOrderLines(OrderState state) {
+        return state.stream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StreamMap 파이프라인 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamMapBenchmark {
+
+    @Benchmark
+    public List<String> userEmails(UserState state) {
+        return state.stream()
+                .map(User::getEmailAddress)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> unverifiedEmails(UserState state) {
+        return state.stream()
+                .filter(user -> !user.isVerified())
+                .map(User::getEmailAddress)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> createdByUserIds(OrderState state) {
+        return state.stream()
+                .map(Order::getCreatedByUserId)
+                .collect(Collectors.toList());
+    }
+}
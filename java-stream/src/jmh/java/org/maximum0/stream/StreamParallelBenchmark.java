@@ -0,0 +1,49 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * StreamParallel 파이프라인 벤치마크.
+ * EmailService는 콘솔 출력이 측정값을 지배하므로, 발송 대신 Blackhole로 소비합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamParallelBenchmark {
+
+    @Benchmark
+    public void unverifiedUsers(UserState state, Blackhole blackhole) {
+        state.stream()
+                .filter(user -> !user.isVerified())
+                .forEach(blackhole::consume);
+    }
+
+    /**
+     * 공유 상태의 사용자를 수정하면 두 번째 호출부터 변환이 없어지고 병렬 실행 시 경쟁이 생기므로, 호출마다 새 사용자로 복사해 변환합니다.
+     */
+    @Benchmark
+    public List<User> capitalizeAndVerifyUsers(UserState state) {
+        return state.stream()
+                .map(user -> new User()
+                        .setId(user.getId())
+                        .setName(user.getName().toUpperCase())
+                        .setEmailAddress(user.getEmailAddress())
+                        .setVerified(true)
+                        .setCreatedAt(user.getCreatedAt())
+                        .setFriends(user.getFriends()))
+                .collect(Collectors.toList());
+    }
+}
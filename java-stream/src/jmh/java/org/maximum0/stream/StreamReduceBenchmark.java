@@ -0,0 +1,64 @@
+package org.maximum0.stream;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.OrderLine;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StreamReduce 파이프라인 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamReduceBenchmark {
+
+    @Benchmark
+    public int sumOfNumberOfFriends(UserState state) {
+        return state.stream()
+                .map(User::getFriendUserIds)
+                .map(List::size)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Money sumOfOrderLineAmounts(OrderState state) {
+        return state.stream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .map(OrderLine::getAmount)
+                .reduce(Money.ZERO, Money::plus);
+    }
+
+    @Benchmark
+    public Money sumOfOrderLineAmountsWithSumming(OrderState state) {
+        return state.stream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .collect(Money.summing(OrderLine::getAmount));
+    }
+
+    /**
+     * Money 도입 이전의 BigDecimal 합산과 비교하기 위한 기준값.
+     */
+    @Benchmark
+    public BigDecimal sumOfOrderLineAmountsAsBigDecimal(OrderState state) {
+        return state.stream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .map(orderLine -> orderLine.getAmount().toBigDecimal())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,40 @@
+package org.maximum0.stream;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 사용자(User) 파이프라인 벤치마크용 데이터 상태.
+ * 데이터 크기(size)와 순차/병렬 여부(parallel)를 파라미터로 받아 동일한 시드로 재현 가능한 사용자 목록을 만듭니다.
+ */
+@State(Scope.Benchmark)
+public class UserState {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    public List<User> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> builder.userCount = size)
+                .build();
+        users = new DatasetGenerator(spec).users().collect(Collectors.toList());
+    }
+
+    public Stream<User> stream() {
+        return parallel ? users.parallelStream() : users.stream();
+    }
+}
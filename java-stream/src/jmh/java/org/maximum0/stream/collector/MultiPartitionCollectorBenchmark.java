@@ -0,0 +1,53 @@
+package org.maximum0.stream.collector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.UserState;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 캠페인 대상(미인증 / 친구 5명 이하 / 친구 5명 초과)을 구획마다 filter + collect로 세 번 읽는 방식과
+ * MultiPartitionCollector로 한 번에 나누는 방식의 비교 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class MultiPartitionCollectorBenchmark {
+
+    @Benchmark
+    public void threePasses(UserState state, Blackhole blackhole) {
+        blackhole.consume(state.stream()
+                .filter(user -> !user.isVerified())
+                .collect(Collectors.toList()));
+        blackhole.consume(state.stream()
+                .filter(User::isVerified)
+                .filter(user -> user.getFriends().size() <= 5)
+                .collect(Collectors.toList()));
+        blackhole.consume(state.stream()
+                .filter(User::isVerified)
+                .filter(user -> user.getFriends().size() > 5)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Map<String, List<User>> singlePass(UserState state) {
+        return state.stream()
+                .collect(MultiPartitionCollector.<User, List<User>>builder()
+                        .segment("verify", user -> !user.isVerified(), Collectors.toList())
+                        .segment("make-more-friends", user -> user.getFriends().size() <= 5, Collectors.toList())
+                        .segment("play-with-friends", user -> true, Collectors.toList())
+                        .build());
+    }
+}
@@ -0,0 +1,41 @@
+package org.maximum0.stream.collector;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.common.Money;
+import org.maximum0.stream.OrderState;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * groupingBy + reducing 체인과 StatusHistogramCollector의 비교 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StatusHistogramCollectorBenchmark {
+
+    @Benchmark
+    public Map<OrderStatus, Money> groupingBy(OrderState state) {
+        return state.stream()
+                .collect(Collectors.groupingBy(Order::getStatus,
+                        Collectors.mapping(Order::getAmount,
+                                Collectors.reducing(Money.ZERO, Money::plus))));
+    }
+
+    @Benchmark
+    public StatusHistogram statusHistogram(OrderState state) {
+        return state.stream()
+                .collect(StatusHistogramCollector.toStatusHistogram());
+    }
+}
@@ -0,0 +1,48 @@
+package org.maximum0.stream.collector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.OrderState;
+import org.maximum0.stream.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 금액 상위 k개 주문: sorted().limit(k)와 TopKCollector의 비교 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class TopKCollectorBenchmark {
+    private static final Comparator<Order> LARGEST_FIRST = Comparator.comparing(Order::getAmount).reversed();
+
+    @Param({"10", "1000"})
+    public int k;
+
+    @Benchmark
+    public List<Order> sortedLimit(OrderState state) {
+        return state.stream()
+                .sorted(LARGEST_FIRST)
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Order> topKCollector(OrderState state) {
+        return state.stream()
+                .collect(TopKCollector.largestOrders(k));
+    }
+}
@@ -0,0 +1,95 @@
+package org.maximum0.stream.columnar;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.common.Money;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * List<Order> 스트림 집계와 컬럼 기반 OrderTable 집계의 비교 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class OrderTableBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"1000", "100000", "10000000"})
+        public int size;
+
+        public List<Order> orders;
+        public OrderTable table;
+        public LocalDateTime since;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            DatasetSpec spec = DatasetSpec.builder(42L)
+                    .with(builder -> builder.userCount = Math.max(1, size / 10))
+                    .build();
+            orders = new DatasetGenerator(spec).orders(size).collect(Collectors.toList());
+            table = OrderTable.from(orders);
+            since = spec.getStartAt().plus(spec.getPeriod().dividedBy(2));
+        }
+    }
+
+    @Benchmark
+    public Map<OrderStatus, Money> sumOfAmountByStatusWithStream(Data data) {
+        return data.orders.stream()
+                .collect(Collectors.groupingBy(Order::getStatus,
+                        Collectors.mapping(Order::getAmount,
+                                Collectors.reducing(Money.ZERO, Money::plus))));
+    }
+
+    @Benchmark
+    public long[] sumOfAmountByStatusWithTable(Data data) {
+        return data.table.sumAmountCentsByStatus();
+    }
+
+    @Benchmark
+    public Money maxErroredAmountWithStream(Data data) {
+        return data.orders.stream()
+                .filter(order -> order.getStatus().equals(OrderStatus.ERROR))
+                .map(Order::getAmount)
+                .max(Money::compareTo)
+                .orElse(Money.ZERO);
+    }
+
+    @Benchmark
+    public long maxErroredAmountWithTable(Data data) {
+        return data.table.filterByStatus(OrderStatus.ERROR).maxAmountCents();
+    }
+
+    @Benchmark
+    public long recentErrorCountWithStream(Data data) {
+        return data.orders.stream()
+                .filter(order -> order.getStatus().equals(OrderStatus.ERROR))
+                .filter(order -> order.getCreatedAt().isAfter(data.since))
+                .count();
+    }
+
+    @Benchmark
+    public int recentErrorCountWithTable(Data data) {
+        return data.table.filterByStatus(OrderStatus.ERROR).filterCreatedAfter(data.since).size();
+    }
+}
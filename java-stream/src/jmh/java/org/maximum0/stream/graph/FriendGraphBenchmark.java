@@ -0,0 +1,84 @@
+package org.maximum0.stream.graph;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FriendGraph의 생성, 공통 친구 수 일괄 계산, 친구 추천 벤치마크.
+ * 공통 친구 수는 임의의 사용자 쌍 1,000,000개, 친구 추천은 임의의 사용자 10,000명에 대해 계산합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class FriendGraphBenchmark {
+    private static final int PAIRS = 1_000_000;
+    private static final int RECOMMENDATIONS = 10_000;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private List<User> users;
+    private FriendGraph friendGraph;
+    private int[] userIdsA;
+    private int[] userIdsB;
+    private int[] recommendFor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> {
+                    builder.userCount = size;
+                    builder.maxFriendsPerUser = 20;
+                })
+                .build();
+        users = new DatasetGenerator(spec).users().collect(Collectors.toList());
+        friendGraph = FriendGraph.from(users);
+
+        SplittableRandom random = new SplittableRandom(42L);
+        userIdsA = new int[PAIRS];
+        userIdsB = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            userIdsA[i] = DatasetGenerator.FIRST_USER_ID + random.nextInt(size);
+            userIdsB[i] = DatasetGenerator.FIRST_USER_ID + random.nextInt(size);
+        }
+        recommendFor = random.ints(RECOMMENDATIONS, DatasetGenerator.FIRST_USER_ID, DatasetGenerator.FIRST_USER_ID + size).toArray();
+    }
+
+    @Benchmark
+    public FriendGraph build() {
+        return FriendGraph.from(users);
+    }
+
+    @Benchmark
+    public int[] mutualFriendCounts() {
+        return friendGraph.mutualFriendCounts(userIdsA, userIdsB);
+    }
+
+    @Benchmark
+    public long recommendTop5() {
+        return IntStream.of(recommendFor).parallel()
+                .mapToLong(userId -> friendGraph.recommend(userId, 5).size())
+                .sum();
+    }
+}
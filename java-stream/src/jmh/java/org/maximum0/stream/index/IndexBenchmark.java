@@ -0,0 +1,148 @@
+package org.maximum0.stream.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * IntIndex, LongIndex와 HashMap의 생성 및 조회 벤치마크.
+ * 키는 임의의 int/long이며, 조회는 존재하는 키와 없는 키를 반씩 섞은 1,000,000번입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+    private static final int LOOKUPS = 1_000_000;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private int[] intKeys;
+    private long[] longKeys;
+    private Object[] values;
+    private int[] intLookups;
+    private long[] longLookups;
+
+    private IntIndex<Object> intIndex;
+    private LongIndex<Object> longIndex;
+    private Map<Integer, Object> intMap;
+    private Map<Long, Object> longMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        intKeys = random.ints(size).toArray();
+        longKeys = random.longs(size).toArray();
+        values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new Object();
+        }
+        intLookups = new int[LOOKUPS];
+        longLookups = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            boolean hit = random.nextBoolean();
+            intLookups[i] = hit ? intKeys[random.nextInt(size)] : random.nextInt();
+            longLookups[i] = hit ? longKeys[random.nextInt(size)] : random.nextLong();
+        }
+        intIndex = buildIntIndex();
+        longIndex = buildLongIndex();
+        intMap = buildIntHashMap();
+        longMap = buildLongHashMap();
+    }
+
+    @Benchmark
+    public IntIndex<Object> buildIntIndex() {
+        IntIndex.Builder<Object> builder = new IntIndex.Builder<>(size, MergePolicy.keepLast());
+        for (int i = 0; i < size; i++) {
+            builder.put(intKeys[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<Integer, Object> buildIntHashMap() {
+        Map<Integer, Object> map = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            map.put(intKeys[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongIndex<Object> buildLongIndex() {
+        LongIndex.Builder<Object> builder = new LongIndex.Builder<>(size, MergePolicy.keepLast());
+        for (int i = 0; i < size; i++) {
+            builder.put(longKeys[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<Long, Object> buildLongHashMap() {
+        Map<Long, Object> map = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            map.put(longKeys[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int lookupIntIndex() {
+        int hits = 0;
+        for (int key : intLookups) {
+            if (intIndex.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int lookupIntHashMap() {
+        int hits = 0;
+        for (int key : intLookups) {
+            if (intMap.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int lookupLongIndex() {
+        int hits = 0;
+        for (long key : longLookups) {
+            if (longIndex.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int lookupLongHashMap() {
+        int hits = 0;
+        for (long key : longLookups) {
+            if (longMap.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,46 @@
+package org.maximum0.stream.index;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.maximum0.stream.OrderState;
+import org.maximum0.stream.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 주문 ID 인덱스 생성 벤치마크: Collectors.toMap, LongIndex.collector, ShardedIndexCollector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ShardedIndexCollectorBenchmark {
+
+    @Benchmark
+    public Map<Long, Order> toMap(OrderState state) {
+        return state.stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+    }
+
+    @Benchmark
+    public LongIndex<Order> longIndexCollector(OrderState state) {
+        return state.stream()
+                .collect(LongIndex.collector(Order::getId, Function.identity(), MergePolicy.throwing()));
+    }
+
+    @Benchmark
+    public LongIndex<Order> shardedIndexCollector(OrderState state) {
+        return state.stream()
+                .collect(ShardedIndexCollector.longKeys(Order::getId, Function.<Order>identity())
+                        .with(builder -> builder.expectedSize = state.orders.size())
+                        .build());
+    }
+}
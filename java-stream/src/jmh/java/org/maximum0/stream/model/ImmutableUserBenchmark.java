@@ -0,0 +1,97 @@
+package org.maximum0.stream.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 사용자 변환 벤치마크: 공유 User 직접 수정, User 복사 후 수정, ImmutableUser의 with 변환.
+ * 변환은 매번 값이 바뀌도록 인증 여부를 뒤집고 가입 시각을 1초 옮깁니다. 할당량은 gc 프로파일러(-prof gc)로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ImmutableUserBenchmark {
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private List<User> users;
+    private List<ImmutableUser> immutableUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> builder.userCount = size)
+                .build();
+        users = new DatasetGenerator(spec).users().collect(Collectors.toList());
+        immutableUsers = users.stream().map(ImmutableUser::of).collect(Collectors.toList());
+    }
+
+    private <T> Stream<T> stream(List<T> list) {
+        return parallel ? list.parallelStream() : list.stream();
+    }
+
+    /**
+     * StreamParallel 3번과 같은 방식. 병렬 실행 시 공유 객체를 수정하므로 안전하지 않습니다. (비교 기준)
+     */
+    @Benchmark
+    public List<User> mutateShared() {
+        return stream(users)
+                .map(user -> user
+                        .setVerified(!user.isVerified())
+                        .setCreatedAt(user.getCreatedAt().plusSeconds(1)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<User> copyThenMutate() {
+        return stream(users)
+                .map(user -> new User()
+                        .setId(user.getId())
+                        .setName(user.getName())
+                        .setEmailAddress(user.getEmailAddress())
+                        .setVerified(!user.isVerified())
+                        .setCreatedAt(user.getCreatedAt().plusSeconds(1))
+                        .setFriends(user.getFriends()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ImmutableUser> immutableMapping() {
+        return stream(users)
+                .map(ImmutableUser.mapping(user -> user
+                        .withVerified(!user.isVerified())
+                        .withCreatedAt(user.getCreatedAt().plusSeconds(1))))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ImmutableUser> immutableWith() {
+        return stream(immutableUsers)
+                .map(user -> user
+                        .withVerified(!user.isVerified())
+                        .withCreatedAt(user.getCreatedAt().plusSeconds(1)))
+                .collect(Collectors.toList());
+    }
+}
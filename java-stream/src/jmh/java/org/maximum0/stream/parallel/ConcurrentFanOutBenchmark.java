@@ -0,0 +1,90 @@
+package org.maximum0.stream.parallel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.User;
+import org.maximum0.stream.service.EmailService;
+import org.maximum0.stream.service.InMemoryEmailTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 건당 20ms가 걸리는 이메일 전송을 사용자마다 실행하는 벤치마크.
+ * 공용 풀의 parallelStream, I/O 전용 풀(ParallelPipelines)의 parallelStream, ConcurrentFanOut을 비교합니다.
+ * 한 번 실행에 수 초 ~ 수 분이 걸리므로 SingleShotTime으로 측정합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ConcurrentFanOutBenchmark {
+    private static final long SEND_LATENCY_MILLIS = 20L;
+
+    @Param({"10000", "100000"})
+    public int sends;
+
+    @Param({"256", "1024"})
+    public int maxConcurrency;
+
+    private List<User> users;
+    private EmailService emailService;
+    private ParallelPipelines ioPipelines;
+    private ConcurrentFanOut fanOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> builder.userCount = sends)
+                .build();
+        users = new DatasetGenerator(spec).users().collect(Collectors.toList());
+        ioPipelines = ParallelPipelines.builder(Workload.IO_BOUND)
+                .with(builder -> builder.maxPoolSize = maxConcurrency)
+                .build();
+        fanOut = ConcurrentFanOut.builder()
+                .with(builder -> builder.maxConcurrency = maxConcurrency)
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpTransport() {
+        emailService = new EmailService(new InMemoryEmailTransport(SEND_LATENCY_MILLIS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ioPipelines.close();
+        fanOut.close();
+    }
+
+    @Benchmark
+    public void commonPoolParallelStream() {
+        users.parallelStream().forEach(emailService::sendVerifyYourEmailEmail);
+    }
+
+    @Benchmark
+    public void ioPoolParallelStream() {
+        ioPipelines.run(() -> users.parallelStream()
+                .forEach(ioPipelines.blocking(emailService::sendVerifyYourEmailEmail)));
+    }
+
+    @Benchmark
+    public long fanOut() {
+        return fanOut.forEachConcurrent(users.stream(), emailService::sendVerifyYourEmailEmail);
+    }
+}
@@ -0,0 +1,78 @@
+package org.maximum0.stream.spliterator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 항목 수가 치우친 주문 목록의 항목 금액 합계: 순차 flatMap, 병렬 flatMap, 병렬 OrderLineSpliterator.
+ *
+ * - longTail: 주문 100,000건, 주문당 항목 1 ~ 5,000개 (대부분 1 ~ 2개, 소수의 큰 주문)
+ * - fewHuge: 주문 4건, 주문당 항목 1 ~ 4,000,000개
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class OrderLineSpliteratorBenchmark {
+    @Param({"longTail", "fewHuge"})
+    public String shape;
+
+    private List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean longTail = "longTail".equals(shape);
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> {
+                    builder.userCount = 10_000;
+                    builder.minLinesPerOrder = 1;
+                    builder.maxLinesPerOrder = longTail ? 5_000 : 4_000_000;
+                    builder.linesSkew = longTail ? 16.0 : 1.0;
+                })
+                .build();
+        orders = new DatasetGenerator(spec).orders(longTail ? 100_000 : 4).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long sequentialFlatMap() {
+        return orders.stream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .mapToLong(line -> line.getAmount().getMinorUnits())
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelFlatMap() {
+        return orders.parallelStream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .mapToLong(line -> line.getAmount().getMinorUnits())
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelOrderLineSpliterator() {
+        return OrderLineSpliterator.stream(orders, true)
+                .mapToLong(line -> line.getAmount().getMinorUnits())
+                .sum();
+    }
+}
@@ -1,18 +1,24 @@
 package org.maximum0.advanced;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import org.maximum0.advanced.model.Order;
 import org.maximum0.advanced.model.OrderLine;
+import org.maximum0.advanced.pipeline.PipelineCompiler;
+import org.maximum0.advanced.processor.BatchPriceProcessor;
 import org.maximum0.advanced.processor.OrderLineAggregationPriceProcessor;
 import org.maximum0.advanced.processor.TaxPriceProcessor;
+import org.maximum0.common.Money;
 
 /**
  * Functional Composition (함수 합성) 개념을 시연합니다.
  * 1. andThen() 메서드를 사용하여 여러 함수를 순차적으로 연결하는 방법
  * 2. reduce() 메서드를 사용하여 함수 목록(List<Function>)을 하나의 함수로 병합하는 방법 (Pipe Pattern)
+ * 3. PipelineCompiler를 사용하여 함수 목록을 평평한 실행기로 컴파일하는 방법
+ * 4. BatchPriceProcessor를 사용하여 주문을 고정 크기 배치 단위로 각 단계에 통과시키는 방법
  */
 public class FunctionalComposition {
 
@@ -34,8 +40,8 @@ public class FunctionalComposition {
         Order unprocessedOrder = new Order()
                 .setId(1001L)
                 .setOrderLines(Arrays.asList(
-                        new OrderLine().setAmount(BigDecimal.valueOf(1000)),
-                        new OrderLine().setAmount(BigDecimal.valueOf(2000))
+                        new OrderLine().setAmount(Money.of(1000)),
+                        new OrderLine().setAmount(Money.of(2000))
                 ));
         System.out.println("처리 전 금액: " + unprocessedOrder.getAmount());
 
@@ -49,6 +55,65 @@ public class FunctionalComposition {
         // 2. TaxPriceProcessor: 3000 * 1.09375 = 3281.25로 세금 적용
         Order processedOrder = mergedPriceProcessors.apply(unprocessedOrder);
         System.out.println("처리 후 금액: " + processedOrder.getAmount());
+
+
+        // 3. PipelineCompiler를 사용한 평평한(flat) 파이프라인
+        System.out.println("\n--- 3. Compiled Pipeline (PipelineCompiler) ---");
+
+        // andThen 체인은 단계 수만큼 호출이 중첩되지만, 컴파일된 파이프라인은 단계 배열을 하나의 루프로 순회합니다.
+        Function<Order, Order> compiledPriceProcessors = PipelineCompiler.compile(priceProcessors);
+        Order compiledOrder = compiledPriceProcessors.apply(new Order()
+                .setId(1002L)
+                .setOrderLines(Arrays.asList(
+                        new OrderLine().setAmount(Money.of(1000)),
+                        new OrderLine().setAmount(Money.of(2000))
+                )));
+        System.out.println("처리 후 금액: " + compiledOrder.getAmount());
+
+
+        // 4. 배치 단위 파이프라인 실행
+        System.out.println("\n--- 4. Batch Pipeline (processInBatches) ---");
+
+        // 주문 한 건마다 모든 단계를 호출하는 대신, 한 단계가 배치 전체를 처리한 뒤 다음 단계로 넘깁니다.
+        List<Order> unprocessedOrders = Arrays.asList(
+                new Order().setId(2001L).setOrderLines(Arrays.asList(new OrderLine().setAmount(Money.of(1000)))),
+                new Order().setId(2002L).setOrderLines(Arrays.asList(new OrderLine().setAmount(Money.of(2000)))),
+                new Order().setId(2003L).setOrderLines(Arrays.asList(new OrderLine().setAmount(Money.of(3000)))),
+                new Order().setId(2004L).setOrderLines(Arrays.asList(new OrderLine().setAmount(Money.of(4000)))),
+                new Order().setId(2005L).setOrderLines(Arrays.asList(new OrderLine().setAmount(Money.of(5000))))
+        );
+        processInBatches(unprocessedOrders, priceProcessors, 2)
+                .forEach(order -> System.out.println("주문 " + order.getId() + " 처리 후 금액: " + order.getAmount()));
+    }
+
+    /**
+     * 주문을 batchSize 단위의 배열로 나누어, 각 배치를 모든 단계(priceProcessors)에 차례로 통과시킵니다.
+     * BatchPriceProcessor를 구현한 단계는 배치 전체를 한 번의 호출로 처리하고, 그 외의 함수는 주문마다 apply()로 처리합니다.
+     */
+    public static List<Order> processInBatches(List<Order> orders, List<? extends Function<Order, Order>> priceProcessors,
+                                               int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        BatchPriceProcessor[] stages = priceProcessors.stream()
+                .map(BatchPriceProcessor::of)
+                .toArray(BatchPriceProcessor[]::new);
+
+        List<Order> processedOrders = new ArrayList<>(orders.size());
+        Order[] batch = new Order[Math.min(batchSize, Math.max(1, orders.size()))];
+        for (int from = 0; from < orders.size(); from += batch.length) {
+            int length = Math.min(batch.length, orders.size() - from);
+            for (int i = 0; i < length; i++) {
+                batch[i] = orders.get(from + i);
+            }
+            for (BatchPriceProcessor stage : stages) {
+                stage.applyBatch(batch, 0, length);
+            }
+            for (int i = 0; i < length; i++) {
+                processedOrders.add(batch[i]);
+            }
+        }
+        return processedOrders;
     }
 
     public static List<Function<Order, Order>> getPriceProcessors() {
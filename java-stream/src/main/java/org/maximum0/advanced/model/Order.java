@@ -1,15 +1,15 @@
 package org.maximum0.advanced.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.maximum0.common.Money;
 
 public class Order {
     private long id;
     private LocalDateTime createdAt;
     private long createdByUserId;
     private OrderStatus status;
-    private BigDecimal amount;
+    private Money amount;
     private List<OrderLine> orderLines;
 
     public enum OrderStatus {
@@ -55,11 +55,11 @@ public class Order {
         return this;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public Order setAmount(BigDecimal amount) {
+    public Order setAmount(Money amount) {
         this.amount = amount;
         return this;
     }
@@ -0,0 +1,35 @@
+package org.maximum0.advanced.pipeline;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+
+/**
+ * METHOD_HANDLE 전략이 파이프라인마다 숨은 클래스(hidden class)로 다시 정의하는 템플릿 클래스.
+ * 합성된 MethodHandle을 클래스 데이터(classData)로 받아 static final 필드에 두므로, JIT는 이를 상수로 보고 단계들을 인라이닝할 수 있습니다.
+ *
+ * NOTE: 이 클래스는 PipelineCompiler가 바이트코드만 읽어 사용하며, 직접 로딩하면 클래스 데이터가 없어 초기화에 실패합니다.
+ */
+final class SpecializedPipeline implements Function<Object, Object> {
+    private static final MethodHandle PIPELINE;
+
+    static {
+        try {
+            PIPELINE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object apply(Object value) {
+        try {
+            return PIPELINE.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
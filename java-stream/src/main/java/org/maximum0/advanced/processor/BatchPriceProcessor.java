@@ -0,0 +1,32 @@
+package org.maximum0.advanced.processor;
+
+import java.util.function.Function;
+import org.maximum0.advanced.model.Order;
+
+/**
+ * 주문을 한 건씩이 아니라 배열 구간 단위로 처리할 수 있는 가격 처리 함수.
+ * 주문마다 단계별 가상 호출을 하는 대신, 한 번의 호출 안에서 구간 전체를 루프로 처리하므로
+ * 각 단계의 루프가 캐시에 머문 채로 배치 전체를 처리합니다.
+ */
+public interface BatchPriceProcessor extends Function<Order, Order> {
+
+    /**
+     * orders[from, to) 구간의 주문을 처리하고, 처리 결과를 같은 위치에 저장합니다.
+     * 기본 구현은 apply()를 반복 호출하며, 구현체는 더 효율적인 루프로 재정의할 수 있습니다.
+     */
+    default void applyBatch(Order[] orders, int from, int to) {
+        for (int i = from; i < to; i++) {
+            orders[i] = apply(orders[i]);
+        }
+    }
+
+    /**
+     * 일반 Function<Order, Order>를 BatchPriceProcessor로 변환합니다.
+     */
+    static BatchPriceProcessor of(Function<Order, Order> processor) {
+        if (processor instanceof BatchPriceProcessor) {
+            return (BatchPriceProcessor) processor;
+        }
+        return processor::apply;
+    }
+}
@@ -0,0 +1,149 @@
+package org.maximum0.advanced.processor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import org.maximum0.advanced.model.Order;
+import org.maximum0.advanced.model.OrderLine;
+import org.maximum0.common.Money;
+
+/**
+ * 주문 금액에 세금을 적용하는 세금 엔진. 모든 세율은 생성 시점에 정수 분수(TaxRate)로 미리 계산됩니다.
+ *
+ * - 구간(bracket) 세율: 주문 금액이 기준 금액 이상인 구간 중 가장 높은 구간의 세율을 적용합니다. (기본 세율은 0원 구간)
+ * - 품목 분류(category) 세율: categoryOf(productId)로 분류된 주문 라인에는 해당 분류의 세율로 라인별 세금을 계산합니다.
+ *   분류 세율이 없는 라인, 주문 금액과 라인 합계의 차액, 라인이 없는 주문은 구간 세율을 따릅니다.
+ * - 반올림: 세금 계산 결과는 rounding(기본 HALF_EVEN)으로 Money의 최소 단위에 맞춥니다.
+ */
+public class TaxEngine {
+    private final RoundingMode rounding;
+    private final long[] bracketThresholds;
+    private final TaxRate[] bracketRates;
+    private final LongFunction<String> categoryOf;
+    private final Map<String, TaxRate> categoryRates;
+
+    private TaxEngine(Builder builder) {
+        if (!builder.brackets.containsKey(Money.ZERO)) {
+            throw new IllegalArgumentException("A base bracket starting at Money.ZERO is required");
+        }
+        this.rounding = builder.rounding;
+        this.bracketThresholds = new long[builder.brackets.size()];
+        this.bracketRates = new TaxRate[builder.brackets.size()];
+        int i = 0;
+        for (Map.Entry<Money, BigDecimal> bracket : builder.brackets.entrySet()) {
+            bracketThresholds[i] = bracket.getKey().getMinorUnits();
+            bracketRates[i] = TaxRate.ofPercent(bracket.getValue());
+            i++;
+        }
+        this.categoryOf = builder.categoryOf;
+        this.categoryRates = new HashMap<>();
+        builder.categoryRates.forEach((category, percent) -> categoryRates.put(category, TaxRate.ofPercent(percent)));
+    }
+
+    /**
+     * 기본 세율(ratePercent)을 갖는 Builder를 생성합니다.
+     */
+    public static Builder builder(BigDecimal ratePercent) {
+        return new Builder(ratePercent);
+    }
+
+    /**
+     * 주문 금액 전체에 하나의 세율을 적용하는 엔진을 생성합니다.
+     */
+    public static TaxEngine flat(BigDecimal ratePercent) {
+        return builder(ratePercent).build();
+    }
+
+    public Order apply(Order order) {
+        return order.setAmount(taxedAmount(order));
+    }
+
+    /**
+     * 여러 주문에 한 번의 순회로 세금을 적용합니다.
+     */
+    public void applyAll(Order[] orders) {
+        applyAll(orders, 0, orders.length);
+    }
+
+    public void applyAll(Order[] orders, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Order order = orders[i];
+            order.setAmount(taxedAmount(order));
+        }
+    }
+
+    public void applyAll(List<Order> orders) {
+        for (int i = 0, size = orders.size(); i < size; i++) {
+            Order order = orders.get(i);
+            order.setAmount(taxedAmount(order));
+        }
+    }
+
+    /**
+     * 주문을 변경하지 않고 세금이 포함된 금액을 계산합니다.
+     */
+    public Money taxedAmount(Order order) {
+        Money amount = order.getAmount();
+        TaxRate bracketRate = bracketRateOf(amount);
+        List<OrderLine> orderLines = order.getOrderLines();
+        if (categoryRates.isEmpty() || orderLines == null || orderLines.isEmpty()) {
+            return bracketRate.applyTo(amount, rounding);
+        }
+
+        // 라인별로 적용할 세율의 세금을 합산한 뒤 주문 금액에 더합니다.
+        long taxMinorUnits = 0;
+        long lineMinorUnits = 0;
+        for (int i = 0, size = orderLines.size(); i < size; i++) {
+            OrderLine orderLine = orderLines.get(i);
+            TaxRate rate = categoryRates.getOrDefault(categoryOf.apply(orderLine.getProductId()), bracketRate);
+            taxMinorUnits = Math.addExact(taxMinorUnits, rate.taxOf(orderLine.getAmount(), rounding).getMinorUnits());
+            lineMinorUnits = Math.addExact(lineMinorUnits, orderLine.getAmount().getMinorUnits());
+        }
+        // 주문 금액이 라인 합계와 다르면(배송비, 할인 등) 차액에는 구간 세율을 적용합니다.
+        long unallocatedMinorUnits = Math.subtractExact(amount.getMinorUnits(), lineMinorUnits);
+        if (unallocatedMinorUnits != 0) {
+            Money unallocatedTax = bracketRate.taxOf(Money.ofMinor(unallocatedMinorUnits), rounding);
+            taxMinorUnits = Math.addExact(taxMinorUnits, unallocatedTax.getMinorUnits());
+        }
+        return Money.ofMinor(Math.addExact(amount.getMinorUnits(), taxMinorUnits));
+    }
+
+    private TaxRate bracketRateOf(Money amount) {
+        long minorUnits = amount.getMinorUnits();
+        for (int i = bracketThresholds.length - 1; i > 0; i--) {
+            if (minorUnits >= bracketThresholds[i]) {
+                return bracketRates[i];
+            }
+        }
+        return bracketRates[0];
+    }
+
+    /**
+     * TaxEngine 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        public RoundingMode rounding = Money.DEFAULT_ROUNDING;
+        public TreeMap<Money, BigDecimal> brackets = new TreeMap<>();
+        public LongFunction<String> categoryOf = productId -> null;
+        public Map<String, BigDecimal> categoryRates = new HashMap<>();
+
+        private Builder(BigDecimal ratePercent) {
+            brackets.put(Money.ZERO, ratePercent);
+        }
+
+        public TaxEngine build() {
+            return new TaxEngine(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
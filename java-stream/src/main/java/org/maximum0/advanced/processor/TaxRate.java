@@ -0,0 +1,62 @@
+package org.maximum0.advanced.processor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.maximum0.common.Money;
+
+/**
+ * 백분율 세율(예: 9.375%)을 정수 분수(numerator / denominator)로 미리 계산해 둔 불변 객체.
+ * 적용 시점에는 Money의 long 곱셈/나눗셈만 수행하므로 BigDecimal 할당이 없습니다.
+ */
+public final class TaxRate {
+    private final BigDecimal percent;
+    private final long rateNumerator;
+    private final long denominator;
+    private final long multiplierNumerator;
+
+    private TaxRate(BigDecimal percent) {
+        if (percent.signum() < 0) {
+            throw new IllegalArgumentException("Tax rate must not be negative: " + percent);
+        }
+        // percent / 100 을 unscaled / 10^scale 형태의 정수 분수로 변환합니다.
+        BigDecimal fraction = percent.movePointLeft(2).stripTrailingZeros();
+        if (fraction.scale() < 0) {
+            fraction = fraction.setScale(0);
+        }
+        this.percent = percent;
+        this.rateNumerator = fraction.unscaledValue().longValueExact();
+        this.denominator = BigDecimal.ONE.movePointRight(fraction.scale()).longValueExact();
+        this.multiplierNumerator = Math.addExact(denominator, rateNumerator);
+    }
+
+    public static TaxRate ofPercent(BigDecimal percent) {
+        return new TaxRate(percent);
+    }
+
+    public static TaxRate ofPercent(String percent) {
+        return new TaxRate(new BigDecimal(percent));
+    }
+
+    public BigDecimal getPercent() {
+        return percent;
+    }
+
+    /**
+     * 세금만 계산합니다. (amount * percent / 100)
+     */
+    public Money taxOf(Money amount, RoundingMode rounding) {
+        return amount.multiply(rateNumerator, denominator, rounding);
+    }
+
+    /**
+     * 세금이 포함된 금액을 계산합니다. (amount * (1 + percent / 100))
+     */
+    public Money applyTo(Money amount, RoundingMode rounding) {
+        return amount.multiply(multiplierNumerator, denominator, rounding);
+    }
+
+    @Override
+    public String toString() {
+        return percent.toPlainString() + "%";
+    }
+}
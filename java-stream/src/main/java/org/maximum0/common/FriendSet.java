@@ -0,0 +1,255 @@
+package org.maximum0.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 친구 사용자 ID 집합을 정렬된 중복 없는 int[]로 표현하는 불변 타입.
+ * List<Integer>와 달리 ID마다 Integer 객체(16바이트 이상)와 참조를 두지 않고 ID당 4바이트만 사용합니다.
+ *
+ * - contains: 이진 탐색 O(log n)
+ * - intersect, union, intersectionSize: 두 정렬 배열의 병합 O(n + m).
+ *   크기 차이가 큰 경우에는 작은 쪽의 각 ID를 큰 쪽에서 이진 탐색합니다. O(m log n)
+ */
+public final class FriendSet {
+    public static final FriendSet EMPTY = new FriendSet(new int[0]);
+
+    // 크기 비율이 이 값 이상이면 병합 대신 이진 탐색으로 교집합을 구합니다.
+    private static final int GALLOP_RATIO = 16;
+
+    private final int[] ids;
+
+    private FriendSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * 주어진 ID로 집합을 만듭니다. 배열은 복사된 뒤 정렬되고 중복이 제거됩니다.
+     */
+    public static FriendSet of(int... ids) {
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        return new FriendSet(distinct(sorted));
+    }
+
+    public static FriendSet copyOf(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        int[] sorted = new int[ids.size()];
+        int i = 0;
+        for (Integer id : ids) {
+            sorted[i++] = id;
+        }
+        Arrays.sort(sorted);
+        return new FriendSet(distinct(sorted));
+    }
+
+    private static int[] distinct(int[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 집합의 원소 수. size()와 같습니다.
+     */
+    public int cardinality() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * index번째로 작은 ID를 반환합니다.
+     */
+    public int get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * 두 집합에 모두 속한 ID의 수를 새 배열을 만들지 않고 셉니다.
+     */
+    public int intersectionSize(FriendSet other) {
+        int[] small = ids.length <= other.ids.length ? ids : other.ids;
+        int[] large = small == ids ? other.ids : ids;
+        if (small.length == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (large.length / small.length >= GALLOP_RATIO) {
+            int from = 0;
+            for (int id : small) {
+                int position = Arrays.binarySearch(large, from, large.length, id);
+                if (position >= 0) {
+                    count++;
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+            return count;
+        }
+        for (int i = 0, j = 0; i < small.length && j < large.length; ) {
+            if (small[i] < large[j]) {
+                i++;
+            } else if (small[i] > large[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public FriendSet intersect(FriendSet other) {
+        int[] small = ids.length <= other.ids.length ? ids : other.ids;
+        int[] large = small == ids ? other.ids : ids;
+        int[] result = new int[small.length];
+        int size = 0;
+        if (small.length > 0 && large.length / small.length >= GALLOP_RATIO) {
+            int from = 0;
+            for (int id : small) {
+                int position = Arrays.binarySearch(large, from, large.length, id);
+                if (position >= 0) {
+                    result[size++] = id;
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+        } else {
+            for (int i = 0, j = 0; i < small.length && j < large.length; ) {
+                if (small[i] < large[j]) {
+                    i++;
+                } else if (small[i] > large[j]) {
+                    j++;
+                } else {
+                    result[size++] = small[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return size == 0 ? EMPTY : new FriendSet(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    public FriendSet union(FriendSet other) {
+        if (other.ids.length == 0) {
+            return this;
+        }
+        if (ids.length == 0) {
+            return other;
+        }
+        int[] result = new int[ids.length + other.ids.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] < other.ids[j]) {
+                result[size++] = ids[i++];
+            } else if (ids[i] > other.ids[j]) {
+                result[size++] = other.ids[j++];
+            } else {
+                result[size++] = ids[i++];
+                j++;
+            }
+        }
+        while (i < ids.length) {
+            result[size++] = ids[i++];
+        }
+        while (j < other.ids.length) {
+            result[size++] = other.ids[j++];
+        }
+        return new FriendSet(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int id : ids) {
+            action.accept(id);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(ids);
+    }
+
+    public int[] toArray() {
+        return ids.clone();
+    }
+
+    /**
+     * 기존 List<Integer> API와의 호환을 위한 읽기 전용 뷰. 원소는 접근할 때마다 박싱됩니다.
+     */
+    public List<Integer> asList() {
+        return new ListView(ids);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FriendSet)) {
+            return false;
+        }
+        return Arrays.equals(ids, ((FriendSet) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+
+    private static final class ListView extends AbstractList<Integer> implements RandomAccess {
+        private final int[] ids;
+
+        private ListView(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return ids[index];
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && Arrays.binarySearch(ids, (Integer) o) >= 0;
+        }
+    }
+}
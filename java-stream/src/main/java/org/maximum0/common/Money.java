@@ -0,0 +1,240 @@
+package org.maximum0.common;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * 최소 화폐 단위(minor unit, 예: 센트)의 long 값으로 금액을 표현하는 불변 고정소수점(fixed-point) 타입.
+ * BigDecimal과 달리 덧셈/곱셈이 기본형 연산이므로, 주문 금액 합산 경로에서 요소마다의 객체 할당이 없습니다.
+ *
+ * - 스케일(scale)은 SCALE(소수점 2자리)로 고정되며, 더 작은 자릿수는 지정한 RoundingMode(기본 HALF_EVEN)로 반올림합니다.
+ * - 모든 연산은 오버플로 시 ArithmeticException을 던집니다.
+ * - BigDecimal과는 of(BigDecimal) / toBigDecimal()로만 변환합니다. (경계에서의 어댑터)
+ */
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_EVEN;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_UNITS_PER_MAJOR = 100;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, MINOR_UNITS_PER_MAJOR));
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_ROUNDING);
+    }
+
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        BigDecimal scaled = amount.setScale(SCALE, rounding);
+        try {
+            return ofMinor(scaled.unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Money overflow: " + amount);
+        }
+    }
+
+    /**
+     * 항목들의 금액을 long 덧셈으로 합산합니다. 결과 Money 하나 외에는 할당하지 않습니다.
+     */
+    public static <T> Money sum(Collection<? extends T> items, Function<? super T, Money> amountOf) {
+        long sum = 0;
+        if (items instanceof List && items instanceof RandomAccess) {
+            List<? extends T> list = (List<? extends T>) items;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                sum = Math.addExact(sum, amountOf.apply(list.get(i)).minorUnits);
+            }
+        } else {
+            for (T item : items) {
+                sum = Math.addExact(sum, amountOf.apply(item).minorUnits);
+            }
+        }
+        return ofMinor(sum);
+    }
+
+    /**
+     * 스트림 요소의 금액을 long[1] 누산기로 합산하는 Collector. (reduce(Money.ZERO, Money::plus)의 할당 없는 대안)
+     */
+    public static <T> Collector<T, long[], Money> summing(Function<? super T, Money> amountOf) {
+        return Collector.of(
+                () -> new long[1],
+                (sum, item) -> sum[0] = Math.addExact(sum[0], amountOf.apply(item).minorUnits),
+                (left, right) -> {
+                    left[0] = Math.addExact(left[0], right[0]);
+                    return left;
+                },
+                sum -> ofMinor(sum[0]),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits));
+    }
+
+    public Money multiply(long factor) {
+        return ofMinor(Math.multiplyExact(minorUnits, factor));
+    }
+
+    /**
+     * 금액에 numerator / denominator 비율을 곱하고 rounding으로 최소 단위에 맞춥니다.
+     * 중간 곱이 long 범위 안이면 기본형 연산만 사용합니다.
+     */
+    public Money multiply(long numerator, long denominator, RoundingMode rounding) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("denominator must be positive: " + denominator);
+        }
+        long product;
+        try {
+            product = Math.multiplyExact(minorUnits, numerator);
+        } catch (ArithmeticException e) {
+            BigDecimal exact = new BigDecimal(BigInteger.valueOf(minorUnits).multiply(BigInteger.valueOf(numerator)))
+                    .divide(BigDecimal.valueOf(denominator), 0, rounding);
+            try {
+                return ofMinor(exact.longValueExact());
+            } catch (ArithmeticException overflow) {
+                throw new ArithmeticException("Money overflow: " + this + " * " + numerator + " / " + denominator);
+            }
+        }
+        return ofMinor(divide(product, denominator, rounding));
+    }
+
+    public Money multiply(BigDecimal factor, RoundingMode rounding) {
+        BigDecimal stripped = factor.stripTrailingZeros();
+        int scale = stripped.scale();
+        if (scale < 0) {
+            stripped = stripped.setScale(0);
+            scale = 0;
+        }
+        if (scale < POWERS_OF_TEN.length && stripped.unscaledValue().bitLength() < Long.SIZE) {
+            return multiply(stripped.unscaledValue().longValue(), POWERS_OF_TEN[scale], rounding);
+        }
+        try {
+            return ofMinor(toBigDecimal().multiply(factor).setScale(SCALE, rounding).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Money overflow: " + this + " * " + factor);
+        }
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * dividend / divisor를 RoundingMode 규칙에 따라 정수로 반올림합니다. (divisor > 0)
+     */
+    static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = dividend < 0 ? -1 : 1;
+        long absRemainder = Math.abs(remainder);
+        int half = Long.compare(absRemainder, divisor - absRemainder);
+        boolean increment;
+        switch (rounding) {
+            case UNNECESSARY:
+                throw new ArithmeticException("Rounding necessary: " + dividend + " / " + divisor);
+            case DOWN:
+                increment = false;
+                break;
+            case UP:
+                increment = true;
+                break;
+            case FLOOR:
+                increment = sign < 0;
+                break;
+            case CEILING:
+                increment = sign > 0;
+                break;
+            case HALF_UP:
+                increment = half >= 0;
+                break;
+            case HALF_DOWN:
+                increment = half > 0;
+                break;
+            case HALF_EVEN:
+                increment = half > 0 || (half == 0 && (quotient & 1) != 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported rounding mode: " + rounding);
+        }
+        return increment ? quotient + sign : quotient;
+    }
+}
@@ -1,11 +1,22 @@
 package org.maximum0.pattern;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.maximum0.common.Money;
 import org.maximum0.pattern.model.Order;
 import org.maximum0.pattern.model.Order.OrderStatus;
 import org.maximum0.pattern.model.OrderLine;
+import org.maximum0.pattern.service.OrderProcessExecutor;
 import org.maximum0.pattern.service.OrderProcessStep;
+import org.maximum0.pattern.service.StagedOrderProcessor;
 
 /**
  * 함수형 책임 연쇄 패턴 (Functional Chain of Responsibility Pattern) 예제
@@ -13,7 +24,7 @@ import org.maximum0.pattern.service.OrderProcessStep;
  */
 public class ChainOfResponsibilityPattern {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         // 각 처리 단계(책임)를 람다식(Consumer)으로 구현합니다.
         OrderProcessStep initializeStep = new OrderProcessStep(order -> {
             if (order.getStatus().equals(OrderStatus.CREATED)) {
@@ -25,17 +36,14 @@ public class ChainOfResponsibilityPattern {
         OrderProcessStep setOrderAmountStep = new OrderProcessStep(order -> {
             if (order.getStatus().equals(OrderStatus.IN_PROGRESS)) {
                 System.out.println("Setting amount of order " + order.getId());
-                order.setAmount(order.getOrderLines().stream()
-                        .map(OrderLine::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-                );
+                order.setAmount(Money.sum(order.getOrderLines(), OrderLine::getAmount));
             }
         });
 
         OrderProcessStep verifyOrderStep = new OrderProcessStep(order -> {
             if (order.getStatus().equals(OrderStatus.IN_PROGRESS)) {
                 System.out.println("Verify order " + order.getId());
-                if (order.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                if (!order.getAmount().isPositive()) {
                     order.setStatus(OrderStatus.ERROR);
                 }
             }
@@ -73,8 +81,8 @@ public class ChainOfResponsibilityPattern {
                 .setId(1001L)
                 .setStatus(OrderStatus.CREATED)
                 .setOrderLines(Arrays.asList(
-                        new OrderLine().setAmount(BigDecimal.valueOf(1000)),
-                        new OrderLine().setAmount(BigDecimal.valueOf(2000))
+                        new OrderLine().setAmount(Money.of(1000)),
+                        new OrderLine().setAmount(Money.of(2000))
                 ));
         chainedOrderProcessSteps.process(order);
 
@@ -83,10 +91,71 @@ public class ChainOfResponsibilityPattern {
                 .setId(1002L)
                 .setStatus(OrderStatus.CREATED)
                 .setOrderLines(Arrays.asList(
-                        new OrderLine().setAmount(BigDecimal.valueOf(1000)),
-                        new OrderLine().setAmount(BigDecimal.valueOf(-2000))
+                        new OrderLine().setAmount(Money.of(1000)),
+                        new OrderLine().setAmount(Money.of(-2000))
                 ));
         chainedOrderProcessSteps.process(failingOrder);
+
+        // 체인을 배열로 평탄화한 실행기로 여러 주문을 스레드 풀에서 병렬 처리합니다.
+        // 각 주문은 하나의 스레드에서 모든 단계를 순서대로 거치며, 동시에 처리 중인 주문은 최대 4개입니다.
+        System.out.println("\n--- OrderProcessExecutor ---");
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            OrderProcessExecutor orderProcessExecutor = OrderProcessExecutor.builder(chainedOrderProcessSteps)
+                    .with(builder -> {
+                        builder.executor = pool;
+                        builder.maxInFlight = 4;
+                    })
+                    .build();
+
+            List<Order> orders = LongStream.rangeClosed(2001L, 2008L)
+                    .mapToObj(id -> new Order()
+                            .setId(id)
+                            .setStatus(OrderStatus.CREATED)
+                            .setOrderLines(Arrays.asList(
+                                    new OrderLine().setAmount(Money.of(1000)),
+                                    new OrderLine().setAmount(Money.of(id % 4 == 0 ? -2000 : 2000))
+                            )))
+                    .collect(Collectors.toList());
+            long processed = orderProcessExecutor.processAll(orders);
+
+            System.out.println("Processed " + processed + " orders through " + orderProcessExecutor.getStepCount() + " steps");
+            Map<OrderStatus, Long> countByStatus = orders.stream()
+                    .collect(Collectors.groupingBy(Order::getStatus, TreeMap::new, Collectors.counting()));
+            System.out.println(countByStatus);
+        } finally {
+            pool.shutdown();
+        }
+
+        // 체인의 각 단계를 큐와 전용 워커를 가진 스테이지로 나누어 실행합니다. (SEDA)
+        // 결제 단계에는 워커를 더 배정하여 느린 결제가 금액 계산 단계를 막지 않도록 합니다.
+        System.out.println("\n--- StagedOrderProcessor ---");
+        Queue<Order> completedOrders = new ConcurrentLinkedQueue<>();
+        StagedOrderProcessor stagedOrderProcessor = StagedOrderProcessor.builder(chainedOrderProcessSteps)
+                .with(builder -> {
+                    builder.stage(0, "initialize", 1)
+                            .stage(1, "set-amount", 1)
+                            .stage(2, "verify", 1)
+                            .stage(3, "payment", 3)
+                            .stage(4, "handle-error", 1)
+                            .stage(5, "complete", 1);
+                    builder.stages.forEach(stage -> stage.queueCapacity = 4);
+                    builder.onComplete = completedOrders::add;
+                })
+                .build();
+        try (stagedOrderProcessor) {
+            for (long id = 3001L; id <= 3008L; id++) {
+                stagedOrderProcessor.submit(new Order()
+                        .setId(id)
+                        .setStatus(OrderStatus.CREATED)
+                        .setOrderLines(Arrays.asList(
+                                new OrderLine().setAmount(Money.of(1000)),
+                                new OrderLine().setAmount(Money.of(id % 4 == 0 ? -2000 : 2000))
+                        )));
+            }
+        }
+        System.out.println("Completed " + completedOrders.size() + " orders");
+        stagedOrderProcessor.getMetrics().forEach(System.out::println);
     }
 
 }
@@ -2,8 +2,10 @@ package org.maximum0.pattern;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import org.maximum0.common.FriendSet;
 import org.maximum0.pattern.model.User;
-import org.maximum0.pattern.service.EmailSender;
+import org.maximum0.pattern.service.EmailRouter;
 import org.maximum0.pattern.service.MakeMoreFriendsEmailProvider;
 import org.maximum0.pattern.service.VerifyYourEmailAddressEmailProvider;
 
@@ -16,27 +18,19 @@ public class StrategyPattern {
 
     public static void main(String[] args) {
         List<User> users = prepareUsers();
-        EmailSender emailSender = new EmailSender();
 
-        // 전통적인 OOP Strategy 방식: 클래스 인스턴스를 주입
-        emailSender.setEmailProvider(new VerifyYourEmailAddressEmailProvider());
-        users.stream()
-                .filter(user -> !user.isVerified())
-                .forEach(emailSender::sendEmail);
-
-        emailSender.setEmailProvider(new MakeMoreFriendsEmailProvider());
-        users.stream()
-                .filter(User::isVerified)
-                .filter(user -> user.getFriendUserIds().size() <= 5)
-                .forEach(emailSender::sendEmail);
-
-        // 함수형 Strategy 방식: 람다식(Lambda Expression)으로 전략을 인라인 구현
-        // - 별도의 클래스 파일 생성 없이 동작(Behavior)만 즉시 전달
-        emailSender.setEmailProvider(user -> "'Play With Friends' email for " + user.getName());
-        users.stream()
-                .filter(User::isVerified)
-                .filter(user -> user.getFriendUserIds().size() > 5)
-                .forEach(emailSender::sendEmail);
+        // EmailRouter: 조건과 전략의 쌍을 등록하고, 한 번의 순회에서 사용자마다 처음 일치하는 전략으로 보냅니다.
+        // - 설정이 불변이므로 병렬 스트림에서 여러 스레드가 하나의 라우터를 공유합니다.
+        EmailRouter emailRouter = EmailRouter.builder()
+                // 전통적인 OOP Strategy 방식: 클래스 인스턴스를 주입 (내부적으로 CompiledEmailTemplate으로 본문을 만듭니다.)
+                .route("verify", user -> !user.isVerified(), new VerifyYourEmailAddressEmailProvider())
+                .route("make-more-friends", user -> user.getFriends().size() <= 5, new MakeMoreFriendsEmailProvider())
+                // 함수형 Strategy 방식: 람다식(Lambda Expression)으로 전략을 인라인 구현
+                // - 별도의 클래스 파일 생성 없이 동작(Behavior)만 즉시 전달
+                .route("play-with-friends", user -> true, user -> "'Play With Friends' email for " + user.getName())
+                .build();
+        Map<String, Long> sentByRoute = emailRouter.sendAll(users.parallelStream());
+        System.out.println(sentByRoute);
     }
 
     public static List<User> prepareUsers() {
@@ -44,7 +38,7 @@ public class StrategyPattern {
                 .with(builder -> {
                     builder.emailAddress = "maximum.zero95@gmail.com";
                     builder.isVerified = false;
-                    builder.friendUserIds = Arrays.asList(201, 202, 203, 204, 211, 212, 213, 214);
+                    builder.friendUserIds = FriendSet.of(201, 202, 203, 204, 211, 212, 213, 214);
                 })
                 .build();
 
@@ -52,7 +46,7 @@ public class StrategyPattern {
                 .with(builder -> {
                     builder.emailAddress = "alice@gmail.com";
                     builder.isVerified = true;
-                    builder.friendUserIds = Arrays.asList(201, 202, 203);
+                    builder.friendUserIds = FriendSet.of(201, 202, 203);
                 })
                 .build();
 
@@ -60,7 +54,7 @@ public class StrategyPattern {
                 .with(builder -> {
                     builder.emailAddress = "bob@gmail.com";
                     builder.isVerified = true;
-                    builder.friendUserIds = Arrays.asList(201, 202, 203, 204, 211, 212);
+                    builder.friendUserIds = FriendSet.of(201, 202, 203, 204, 211, 212);
                 })
                 .build();
 
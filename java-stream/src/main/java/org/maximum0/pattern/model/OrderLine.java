@@ -1,13 +1,13 @@
 package org.maximum0.pattern.model;
 
-import java.math.BigDecimal;
+import org.maximum0.common.Money;
 
 public class OrderLine {
     private long id;
     private OrderLineType type;
     private long productId;
     private int quantity;
-    private BigDecimal amount;
+    private Money amount;
 
     public enum OrderLineType {
         PURCHASE,
@@ -50,11 +50,11 @@ public class OrderLine {
         return this;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public OrderLine setAmount(BigDecimal amount) {
+    public OrderLine setAmount(Money amount) {
         this.amount = amount;
         return this;
     }
@@ -1,8 +1,8 @@
 package org.maximum0.pattern.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import org.maximum0.common.FriendSet;
 
 /**
  * User 클래스: 불변 객체(Immutable Object)로 설계되었습니다.
@@ -13,14 +13,14 @@ public class User {
     private String name;
     private String emailAddress;
     private boolean isVerified;
-    private List<Integer> friendUserIds;
+    private FriendSet friendUserIds;
 
     public User(Builder builder) {
         this.id = builder.id;
         this.name = builder.name;
         this.emailAddress = builder.emailAddress;
         this.isVerified = builder.isVerified;
-        this.friendUserIds = builder.friendUserIds;
+        this.friendUserIds = builder.friendUserIds == null ? FriendSet.EMPTY : builder.friendUserIds;
     }
 
     public static Builder builder(int id, String name) {
@@ -43,7 +43,14 @@ public class User {
         return isVerified;
     }
 
+    /**
+     * 친구 ID 목록의 읽기 전용 뷰 (오름차순, 중복 없음). 기본형 연산에는 getFriends()를 사용합니다.
+     */
     public List<Integer> getFriendUserIds() {
+        return friendUserIds.asList();
+    }
+
+    public FriendSet getFriends() {
         return friendUserIds;
     }
 
@@ -56,7 +63,7 @@ public class User {
         private String name;
         public String emailAddress;
         public boolean isVerified;
-        public List<Integer> friendUserIds = new ArrayList<>();
+        public FriendSet friendUserIds = FriendSet.EMPTY;
 
         private Builder(int id, String name) {
             this.id = id;
@@ -0,0 +1,159 @@
+package org.maximum0.pattern.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.maximum0.pattern.model.User;
+
+/**
+ * 미리 컴파일된 이메일 템플릿. 그 자체로 EmailProvider 전략으로 사용할 수 있습니다.
+ *
+ * "'Verify Your Email Address' email for {name}"처럼 {필드} 자리표시자를 가진 템플릿을 생성 시점에 한 번만 파싱하여
+ * 리터럴 조각과 필드 조각의 배열로 만들고, 렌더링할 때는 배열을 순서대로 이어 붙이기만 합니다.
+ *
+ * - render: 스레드마다 재사용하는 StringBuilder에 렌더링하여 중간 버퍼 할당을 없앱니다.
+ * - renderTo: 호출자가 가진 StringBuilder(예: 전송 버퍼)에 바로 이어 씁니다.
+ * - cached: 필드 값이 같은 사용자에게는 이미 렌더링한 본문을 그대로 돌려주는 EmailProvider를 만듭니다.
+ */
+public final class CompiledEmailTemplate implements EmailProvider {
+    /**
+     * 기본으로 사용할 수 있는 사용자 필드: name, emailAddress, id, friendCount
+     */
+    public static final Map<String, Function<User, String>> USER_FIELDS = Map.of(
+            "name", User::getName,
+            "emailAddress", User::getEmailAddress,
+            "id", user -> Integer.toString(user.getId()),
+            "friendCount", user -> Integer.toString(user.getFriends().size())
+    );
+
+    private static final int MAX_REUSED_BUFFER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String source;
+    // literals.length == fields.length + 1 (필드 앞뒤의 리터럴, 비어 있을 수 있음)
+    private final String[] literals;
+    private final Function<User, String>[] fields;
+    private final int literalLength;
+
+    private CompiledEmailTemplate(String source, List<String> literals, List<Function<User, String>> fields) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        @SuppressWarnings("unchecked")
+        Function<User, String>[] fieldArray = (Function<User, String>[]) fields.toArray(new Function<?, ?>[0]);
+        this.fields = fieldArray;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static CompiledEmailTemplate compile(String template) {
+        return compile(template, USER_FIELDS);
+    }
+
+    /**
+     * 템플릿을 리터럴/필드 조각으로 컴파일합니다.
+     *
+     * @param fields 자리표시자 이름별로 사용자에서 값을 꺼내는 함수
+     * @throws IllegalArgumentException 닫히지 않은 자리표시자나 알 수 없는 필드가 있는 경우
+     */
+    public static CompiledEmailTemplate compile(String template, Map<String, Function<User, String>> fields) {
+        List<String> literals = new ArrayList<>();
+        List<Function<User, String>> accessors = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = template.indexOf('{', position);
+            if (open < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open + ": " + template);
+            }
+            String fieldName = template.substring(open + 1, close);
+            Function<User, String> accessor = fields.get(fieldName);
+            if (accessor == null) {
+                throw new IllegalArgumentException("Unknown field '" + fieldName + "': " + template);
+            }
+            literals.add(template.substring(position, open));
+            accessors.add(accessor);
+            position = close + 1;
+        }
+        return new CompiledEmailTemplate(template, literals, accessors);
+    }
+
+    @Override
+    public String getEmail(User user) {
+        return render(user);
+    }
+
+    /**
+     * 스레드별로 재사용하는 StringBuilder에 렌더링한 뒤 문자열로 반환합니다.
+     */
+    public String render(User user) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(user, buffer);
+        String rendered = buffer.toString();
+        // 아주 긴 본문을 렌더링한 버퍼는 스레드에 계속 붙잡아 두지 않습니다.
+        if (buffer.capacity() > MAX_REUSED_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    /**
+     * 주어진 StringBuilder 뒤에 렌더링 결과를 이어 씁니다.
+     */
+    public StringBuilder renderTo(User user, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + 16 * fields.length);
+        out.append(literals[0]);
+        for (int i = 0; i < fields.length; i++) {
+            out.append(fields[i].apply(user)).append(literals[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * 필드 값이 같은 입력에 대해 렌더링 결과를 재사용하는 EmailProvider를 만듭니다.
+     * 캐시가 maxEntries를 넘으면 비우고 다시 채웁니다.
+     */
+    public EmailProvider cached(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        Map<Object, String> cache = new ConcurrentHashMap<>();
+        return user -> {
+            Object key = cacheKey(user);
+            if (key == null) {
+                return render(user);
+            }
+            String rendered = cache.get(key);
+            if (rendered == null) {
+                if (cache.size() >= maxEntries) {
+                    cache.clear();
+                }
+                rendered = render(user);
+                cache.putIfAbsent(key, rendered);
+            }
+            return rendered;
+        };
+    }
+
+    private Object cacheKey(User user) {
+        if (fields.length == 1) {
+            return fields[0].apply(user);
+        }
+        Object[] values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = fields[i].apply(user);
+        }
+        return Arrays.asList(values);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledEmailTemplate{" + source + '}';
+    }
+}
@@ -0,0 +1,125 @@
+package org.maximum0.pattern.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.maximum0.pattern.model.User;
+
+/**
+ * 사용자마다 알맞은 EmailProvider 전략을 골라 보내는 라우터.
+ * 조건(Predicate)과 전략의 쌍(Route)을 등록 순서대로 평가하여 처음 일치하는 전략으로 보냅니다.
+ *
+ * 설정은 생성 후 바뀌지 않으므로 하나의 라우터를 여러 스레드가 공유할 수 있고,
+ * 전략마다 사용자 목록을 따로 순회하는 대신 한 번의 순회(병렬 스트림 가능)로 모든 사용자를 처리합니다.
+ */
+public final class EmailRouter {
+    private final Route[] routes;
+    private final EmailSender emailSender;
+
+    private EmailRouter(Builder builder) {
+        this.routes = builder.routes.toArray(new Route[0]);
+        this.emailSender = builder.emailSender;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 사용자에게 보낼 전략의 경로 번호를 반환합니다. 일치하는 경로가 없으면 -1을 반환합니다.
+     */
+    private int routeIndexOf(User user) {
+        for (int i = 0; i < routes.length; i++) {
+            if (routes[i].predicate.test(user)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 사용자에게 일치하는 전략으로 이메일을 보냅니다.
+     *
+     * @return 이메일을 보냈으면 true, 일치하는 경로가 없으면 false
+     */
+    public boolean send(User user) {
+        int index = routeIndexOf(user);
+        if (index < 0) {
+            return false;
+        }
+        emailSender.sendEmail(user, routes[index].emailProvider);
+        return true;
+    }
+
+    /**
+     * 한 번의 순회로 모든 사용자에게 이메일을 보냅니다. 병렬 스트림을 넘기면 여러 스레드에서 동시에 보냅니다.
+     *
+     * @return 경로 이름별로 보낸 이메일 수 (등록 순서)
+     */
+    public Map<String, Long> sendAll(Stream<User> users) {
+        LongAdder[] counts = new LongAdder[routes.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+        users.forEach(user -> {
+            int index = routeIndexOf(user);
+            if (index >= 0) {
+                emailSender.sendEmail(user, routes[index].emailProvider);
+                counts[index].increment();
+            }
+        });
+
+        Map<String, Long> sentByRoute = new LinkedHashMap<>();
+        for (int i = 0; i < routes.length; i++) {
+            sentByRoute.merge(routes[i].name, counts[i].sum(), Long::sum);
+        }
+        return Collections.unmodifiableMap(sentByRoute);
+    }
+
+    private static final class Route {
+        private final String name;
+        private final Predicate<User> predicate;
+        private final EmailProvider emailProvider;
+
+        private Route(String name, Predicate<User> predicate, EmailProvider emailProvider) {
+            this.name = name;
+            this.predicate = predicate;
+            this.emailProvider = emailProvider;
+        }
+    }
+
+    /**
+     * EmailRouter 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 경로와 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final List<Route> routes = new ArrayList<>();
+        public EmailSender emailSender = new EmailSender();
+
+        private Builder() {
+        }
+
+        /**
+         * predicate를 만족하는 사용자에게 emailProvider 전략으로 보내는 경로를 추가합니다.
+         */
+        public Builder route(String name, Predicate<User> predicate, EmailProvider emailProvider) {
+            routes.add(new Route(name, predicate, emailProvider));
+            return this;
+        }
+
+        public EmailRouter build() {
+            return new EmailRouter(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
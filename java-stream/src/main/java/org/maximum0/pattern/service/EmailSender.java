@@ -5,16 +5,35 @@ import org.maximum0.pattern.model.User;
 /**
  * Strategy Pattern의 Context
  * EmailProvider 전략(Strategy)을 주입받아 사용합니다.
+ *
+ * 기본 전략은 생성자로 주입하고, sendEmail(user, emailProvider)로 호출마다 전략을 지정하면
+ * 공유 상태를 바꾸지 않고 하나의 인스턴스를 여러 스레드가 함께 사용할 수 있습니다.
  */
 public class EmailSender {
-    private EmailProvider emailProvider;
+    private volatile EmailProvider emailProvider;
 
+    public EmailSender() {
+    }
+
+    public EmailSender(EmailProvider emailProvider) {
+        this.emailProvider = emailProvider;
+    }
+
+    /**
+     * @deprecated 공유 중인 인스턴스의 전략을 바꾸면 다른 스레드의 전송에도 영향을 줍니다.
+     * 생성자로 전략을 주입하거나 sendEmail(user, emailProvider) 또는 EmailRouter를 사용하세요.
+     */
+    @Deprecated
     public EmailSender setEmailProvider(EmailProvider emailProvider) {
         this.emailProvider = emailProvider;
         return this;
     }
 
     public void sendEmail(User user) {
+        sendEmail(user, emailProvider);
+    }
+
+    public void sendEmail(User user, EmailProvider emailProvider) {
         String email = emailProvider.getEmail(user);
         System.out.println("Sending " + email);
     }
@@ -3,9 +3,10 @@ package org.maximum0.pattern.service;
 import org.maximum0.pattern.model.User;
 
 public class MakeMoreFriendsEmailProvider implements EmailProvider {
+    private static final CompiledEmailTemplate TEMPLATE = CompiledEmailTemplate.compile("'Make More Friends' email for {name}");
 
     @Override
     public String getEmail(User user) {
-        return "'Make More Friends' email for " + user.getName();
+        return TEMPLATE.render(user);
     }
 }
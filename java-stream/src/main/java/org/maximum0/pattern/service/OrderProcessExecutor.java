@@ -0,0 +1,148 @@
+package org.maximum0.pattern.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.maximum0.pattern.model.Order;
+
+/**
+ * OrderProcessStep 체인을 실행하는 실행기.
+ * 생성 시점에 연결 리스트 형태의 체인을 배열로 한 번 평탄화하고, 주문마다 배열을 순회하며 단계를 적용합니다.
+ *
+ * - 순서 보장: 하나의 주문은 항상 하나의 스레드에서 체인의 모든 단계를 순서대로 거칩니다.
+ * - 병렬 처리: processAll은 주문 스트림을 executor(기본 ForkJoinPool.commonPool())에 분산합니다.
+ * - 배압(backpressure): 동시에 처리 중인 주문 수가 maxInFlight에 도달하면 호출 스레드가 다음 주문 제출을 기다립니다.
+ * - 실패 전파: 한 주문에서 예외가 발생하면 새 주문 제출을 멈추고, 진행 중인 주문이 끝난 뒤 첫 번째 예외를 다시 던집니다.
+ */
+public class OrderProcessExecutor {
+    private final Consumer<Order>[] steps;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    @SuppressWarnings("unchecked")
+    private OrderProcessExecutor(Builder builder) {
+        if (builder.maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + builder.maxInFlight);
+        }
+        List<Consumer<Order>> flattened = new ArrayList<>();
+        for (OrderProcessStep step = builder.head; step != null; step = step.getNext()) {
+            flattened.add(step.getProcessOrder());
+        }
+        this.steps = (Consumer<Order>[]) flattened.toArray(new Consumer<?>[0]);
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+    }
+
+    /**
+     * head부터 시작하는 체인을 실행할 Builder를 생성합니다.
+     */
+    public static Builder builder(OrderProcessStep head) {
+        return new Builder(head);
+    }
+
+    public static OrderProcessExecutor of(OrderProcessStep head) {
+        return builder(head).build();
+    }
+
+    public int getStepCount() {
+        return steps.length;
+    }
+
+    /**
+     * 호출 스레드에서 하나의 주문을 체인의 모든 단계에 순서대로 통과시킵니다.
+     */
+    public Order process(Order order) {
+        for (Consumer<Order> step : steps) {
+            step.accept(order);
+        }
+        return order;
+    }
+
+    /**
+     * 주문 스트림을 executor에서 병렬로 처리하고, 모든 주문의 처리가 끝날 때까지 기다립니다.
+     *
+     * @return 처리가 완료된 주문 수
+     */
+    public long processAll(Stream<Order> orders) {
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        LongAdder processed = new LongAdder();
+
+        try {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext() && failure.get() == null) {
+                Order order = iterator.next();
+                permits.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            process(order);
+                            processed.increment();
+                        } catch (Throwable e) {
+                            // Error도 첫 번째 실패로 기록해야 제출 루프가 멈추고 호출 스레드로 전달됩니다.
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    // 작업 제출 자체가 거부된 경우 허가를 돌려주고 실패로 기록합니다.
+                    permits.release();
+                    failure.compareAndSet(null, e);
+                }
+            }
+            // 모든 허가를 회수하면 진행 중인 주문이 모두 끝난 것입니다.
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing orders", e);
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause != null) {
+            throw new IllegalStateException("Order processing failed", cause);
+        }
+        return processed.sum();
+    }
+
+    public long processAll(List<Order> orders) {
+        return processAll(orders.stream());
+    }
+
+    /**
+     * OrderProcessExecutor 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final OrderProcessStep head;
+        public Executor executor = ForkJoinPool.commonPool();
+        public int maxInFlight = Runtime.getRuntime().availableProcessors() * 4;
+
+        private Builder(OrderProcessStep head) {
+            this.head = head;
+        }
+
+        public OrderProcessExecutor build() {
+            return new OrderProcessExecutor(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.maximum0.pattern.service;
 
-import java.util.Optional;
 import java.util.function.Consumer;
 import org.maximum0.pattern.model.Order;
 
@@ -21,17 +20,28 @@ public class OrderProcessStep {
      * 체인의 끝까지 이동하여 다음 단계를 연결하며, Fluent Interface를 제공합니다.
      */
     public OrderProcessStep setNext(OrderProcessStep next) {
-        if (this.next == null) {
-            this.next = next;
-        } else {
-            this.next.setNext(next);
+        OrderProcessStep tail = this;
+        while (tail.next != null) {
+            tail = tail.next;
         }
+        tail.next = next;
         return this;
     }
 
+    /**
+     * 체인을 재귀 없이 순회하며 각 단계를 차례로 적용합니다. 긴 체인에서도 스택이 깊어지지 않습니다.
+     */
     public void process(Order order) {
-        processOrder.accept(order);
-        Optional.ofNullable(next)
-                .ifPresent(nextStep -> nextStep.process(order));
+        for (OrderProcessStep step = this; step != null; step = step.next) {
+            step.processOrder.accept(order);
+        }
+    }
+
+    Consumer<Order> getProcessOrder() {
+        return processOrder;
+    }
+
+    OrderProcessStep getNext() {
+        return next;
     }
 }
@@ -0,0 +1,350 @@
+package org.maximum0.pattern.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.maximum0.pattern.model.Order;
+import org.maximum0.pattern.model.Order.OrderStatus;
+
+/**
+ * OrderProcessStep 체인의 각 단계를 독립된 스테이지로 실행하는 단계형(SEDA) 주문 처리기.
+ * 스테이지마다 크기가 제한된 큐와 전용 워커 스레드를 두어, 느린 단계(예: 결제)가 앞 단계의 처리를 막지 않도록 합니다.
+ *
+ * - 배압(backpressure): 다음 스테이지의 큐가 가득 차면 이전 스테이지의 워커(또는 submit 호출자)가 대기합니다.
+ * - 예외 처리: 단계에서 예외(Error 포함)가 발생한 주문은 ERROR 상태로 바꾸어 다음 스테이지로 넘기므로, 오류 처리 단계가 그대로 동작합니다.
+ *   onComplete에서 발생한 예외는 마지막 스테이지의 실패 건수로만 기록합니다. 어떤 경우에도 워커는 계속 실행됩니다.
+ * - 종료: close()는 이미 제출된 주문을 모두 처리한 뒤 워커를 종료합니다. 워커는 인터럽트로 종료되지 않으므로 처리 중인 주문이 유실되지 않습니다.
+ * - 지표: 스테이지별 큐 깊이, 처리/실패 건수, 평균/최대 처리 시간을 getMetrics()로 조회합니다.
+ */
+public class StagedOrderProcessor implements AutoCloseable {
+    // 큐를 따라 흘려보내는 종료 신호. 실제 주문과 구분하기 위해 참조 동일성으로 비교합니다.
+    private static final Order POISON_PILL = new Order();
+
+    private final Stage[] stages;
+    private final Consumer<Order> onComplete;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final Object submitLock = new Object();
+    private volatile boolean closed;
+
+    private StagedOrderProcessor(Builder builder) {
+        if (builder.stages.isEmpty()) {
+            throw new IllegalArgumentException("At least one stage is required");
+        }
+        this.onComplete = builder.onComplete;
+        this.stages = new Stage[builder.stages.size()];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new Stage(builder.stages.get(i));
+        }
+        for (int i = 0; i < stages.length; i++) {
+            stages[i].start(i, builder.threadFactory);
+        }
+    }
+
+    /**
+     * head부터 시작하는 체인의 단계마다 하나의 스테이지를 갖는 Builder를 생성합니다.
+     */
+    public static Builder builder(OrderProcessStep head) {
+        return new Builder(head);
+    }
+
+    /**
+     * 첫 번째 스테이지의 큐에 주문을 넣습니다. 큐가 가득 차 있으면 빈 자리가 생길 때까지 대기합니다.
+     */
+    public void submit(Order order) throws InterruptedException {
+        synchronized (submitLock) {
+            if (closed) {
+                throw new IllegalStateException("StagedOrderProcessor is closed");
+            }
+            stages[0].queue.put(order);
+        }
+    }
+
+    public List<StageMetrics> getMetrics() {
+        List<StageMetrics> metrics = new ArrayList<>(stages.length);
+        for (Stage stage : stages) {
+            metrics.add(stage.snapshot());
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * 새 주문의 제출을 막고, 이미 제출된 주문이 마지막 스테이지까지 처리될 때까지 기다립니다.
+     * 기다리는 중에 인터럽트되면 종료 신호는 이미 보냈으므로 워커는 남은 주문을 계속 처리합니다.
+     */
+    @Override
+    public void close() {
+        synchronized (submitLock) {
+            if (!closed) {
+                closed = true;
+                stages[0].sendPoisonPills();
+            }
+        }
+        try {
+            terminated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for staged orders", e);
+        }
+    }
+
+    private void forward(Stage stage, int stageIndex, Order order) {
+        int nextIndex = stageIndex + 1;
+        if (nextIndex < stages.length) {
+            putUninterruptibly(stages[nextIndex].queue, order);
+            return;
+        }
+        try {
+            onComplete.accept(order);
+        } catch (Throwable e) {
+            stage.failed.increment();
+        }
+    }
+
+    /**
+     * 인터럽트와 무관하게 큐에 넣습니다. 주문이나 종료 신호가 유실되면 다음 스테이지가 끝나지 않기 때문입니다.
+     */
+    private static void putUninterruptibly(BlockingQueue<Order> queue, Order order) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(order);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void onStageTerminated(int stageIndex) {
+        int nextIndex = stageIndex + 1;
+        if (nextIndex < stages.length) {
+            stages[nextIndex].sendPoisonPills();
+        } else {
+            terminated.countDown();
+        }
+    }
+
+    private final class Stage {
+        private final String name;
+        private final OrderProcessStep step;
+        private final int workers;
+        private final BlockingQueue<Order> queue;
+        private final AtomicInteger liveWorkers;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+        private Stage(StageSpec spec) {
+            if (spec.workers < 1 || spec.queueCapacity < 1) {
+                throw new IllegalArgumentException("workers and queueCapacity must be positive: " + spec.name);
+            }
+            this.name = spec.name;
+            this.step = new OrderProcessStep(spec.processOrder);
+            this.workers = spec.workers;
+            this.queue = new ArrayBlockingQueue<>(spec.queueCapacity);
+            this.liveWorkers = new AtomicInteger(spec.workers);
+        }
+
+        private void start(int stageIndex, ThreadFactory threadFactory) {
+            for (int i = 0; i < workers; i++) {
+                Thread worker = threadFactory.newThread(() -> runWorker(stageIndex));
+                worker.setName("order-stage-" + name + "-" + i);
+                worker.start();
+            }
+        }
+
+        private void runWorker(int stageIndex) {
+            try {
+                while (true) {
+                    Order order;
+                    try {
+                        order = queue.take();
+                    } catch (InterruptedException e) {
+                        // 워커는 POISON_PILL로만 종료합니다. 인터럽트로 끝나면 앞 스테이지가 넣은 주문이 남게 됩니다.
+                        continue;
+                    }
+                    if (order == POISON_PILL) {
+                        break;
+                    }
+                    long startedAt = System.nanoTime();
+                    try {
+                        step.process(order);
+                    } catch (Throwable e) {
+                        failed.increment();
+                        order.setStatus(OrderStatus.ERROR);
+                    }
+                    long latency = System.nanoTime() - startedAt;
+                    processed.increment();
+                    totalLatencyNanos.add(latency);
+                    maxLatencyNanos.accumulate(latency);
+                    forward(this, stageIndex, order);
+                }
+            } finally {
+                // 스테이지의 마지막 워커가 끝나면 앞선 주문이 모두 다음 큐로 넘어간 것이므로 다음 스테이지에 종료를 알립니다.
+                if (liveWorkers.decrementAndGet() == 0) {
+                    onStageTerminated(stageIndex);
+                }
+            }
+        }
+
+        private void sendPoisonPills() {
+            for (int i = 0; i < workers; i++) {
+                putUninterruptibly(queue, POISON_PILL);
+            }
+        }
+
+        private StageMetrics snapshot() {
+            long processedCount = processed.sum();
+            return new StageMetrics(
+                    name,
+                    workers,
+                    queue.size(),
+                    queue.size() + queue.remainingCapacity(),
+                    processedCount,
+                    failed.sum(),
+                    processedCount == 0 ? 0L : totalLatencyNanos.sum() / processedCount,
+                    maxLatencyNanos.get()
+            );
+        }
+    }
+
+    /**
+     * 스테이지 하나의 설정. 이름, 워커 수, 큐 크기를 스테이지마다 따로 지정할 수 있습니다.
+     */
+    public static class StageSpec {
+        private final Consumer<Order> processOrder;
+        public String name;
+        public int workers = 1;
+        public int queueCapacity = 1024;
+
+        private StageSpec(Consumer<Order> processOrder, String name) {
+            this.processOrder = processOrder;
+            this.name = name;
+        }
+    }
+
+    /**
+     * 특정 시점의 스테이지 지표 스냅샷.
+     */
+    public static final class StageMetrics {
+        private final String name;
+        private final int workers;
+        private final int queueDepth;
+        private final int queueCapacity;
+        private final long processed;
+        private final long failed;
+        private final long averageLatencyNanos;
+        private final long maxLatencyNanos;
+
+        private StageMetrics(String name, int workers, int queueDepth, int queueCapacity,
+                             long processed, long failed, long averageLatencyNanos, long maxLatencyNanos) {
+            this.name = name;
+            this.workers = workers;
+            this.queueDepth = queueDepth;
+            this.queueCapacity = queueCapacity;
+            this.processed = processed;
+            this.failed = failed;
+            this.averageLatencyNanos = averageLatencyNanos;
+            this.maxLatencyNanos = maxLatencyNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getAverageLatencyNanos() {
+            return averageLatencyNanos;
+        }
+
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "StageMetrics{" +
+                    "name='" + name + '\'' +
+                    ", workers=" + workers +
+                    ", queueDepth=" + queueDepth + "/" + queueCapacity +
+                    ", processed=" + processed +
+                    ", failed=" + failed +
+                    ", averageLatencyNanos=" + averageLatencyNanos +
+                    ", maxLatencyNanos=" + maxLatencyNanos +
+                    '}';
+        }
+    }
+
+    /**
+     * StagedOrderProcessor 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 스테이지 설정과 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        public final List<StageSpec> stages = new ArrayList<>();
+        public ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        };
+        public Consumer<Order> onComplete = order -> { };
+
+        private Builder(OrderProcessStep head) {
+            for (OrderProcessStep step = head; step != null; step = step.getNext()) {
+                stages.add(new StageSpec(step.getProcessOrder(), "stage-" + stages.size()));
+            }
+        }
+
+        /**
+         * index 번째 스테이지의 이름과 워커 수를 지정합니다.
+         */
+        public Builder stage(int index, String name, int workers) {
+            StageSpec spec = stages.get(index);
+            spec.name = name;
+            spec.workers = workers;
+            return this;
+        }
+
+        public StagedOrderProcessor build() {
+            return new StagedOrderProcessor(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -3,9 +3,10 @@ package org.maximum0.pattern.service;
 import org.maximum0.pattern.model.User;
 
 public class VerifyYourEmailAddressEmailProvider implements EmailProvider {
+    private static final CompiledEmailTemplate TEMPLATE = CompiledEmailTemplate.compile("'Verify Your Email Address' email for {name}");
 
     @Override
     public String getEmail(User user) {
-        return "'Verify Your Email Address' email for " + user.getName();
+        return TEMPLATE.render(user);
     }
 }
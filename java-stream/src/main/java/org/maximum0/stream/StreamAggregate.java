@@ -1,6 +1,5 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
@@ -8,6 +7,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.maximum0.common.Money;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.User;
@@ -58,11 +58,11 @@ public class StreamAggregate {
         System.out.println("\n--- 5. max()와 orElse() (최대 에러 금액) ---");
 
         List<Order> orders = prepareOrders();
-        BigDecimal maxErroredAmount = orders.stream()
+        Money maxErroredAmount = orders.stream()
                 .filter(order -> order.getStatus().equals(OrderStatus.ERROR))
                 .map(Order::getAmount)
-                .max(BigDecimal::compareTo)
-                .orElse(BigDecimal.ZERO);
+                .max(Money::compareTo)
+                .orElse(Money.ZERO);
         System.out.println("최대 에러 주문 금액: " + maxErroredAmount);
     }
 
@@ -103,22 +103,22 @@ public class StreamAggregate {
         Order order1 = new Order()
                 .setId(1001)
                 .setStatus(OrderStatus.CREATED)
-                .setAmount(BigDecimal.valueOf(2000));
+                .setAmount(Money.of(2000));
 
         Order order2 = new Order()
                 .setId(1002)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(4000));
+                .setAmount(Money.of(4000));
 
         Order order3 = new Order()
                 .setId(1003)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(3000));
+                .setAmount(Money.of(3000));
 
         Order order4 = new Order()
                 .setId(1004)
                 .setStatus(OrderStatus.PROCESSED)
-                .setAmount(BigDecimal.valueOf(7000));
+                .setAmount(Money.of(7000));
 
         return Arrays.asList(order1, order2, order3, order4);
     }
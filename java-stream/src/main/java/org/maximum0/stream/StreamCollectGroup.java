@@ -1,11 +1,14 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.maximum0.common.Money;
+import org.maximum0.stream.collector.MultiPartitionCollector;
+import org.maximum0.stream.collector.StatusHistogram;
+import org.maximum0.stream.collector.StatusHistogramCollector;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.User;
@@ -48,10 +51,8 @@ public class StreamCollectGroup {
         System.out.println("\n--- 4. Collectors.groupingBy (총 금액 합계) ---");
 
         List<Order> orders = prepareOrders();
-        Map<OrderStatus, BigDecimal> orderStatusToSumOfAmontMap = orders.stream()
-                .collect(Collectors.groupingBy(Order::getStatus,
-                        Collectors.mapping(Order::getAmount,
-                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add))));
+        Map<OrderStatus, Money> orderStatusToSumOfAmontMap = orders.stream()
+                .collect(Collectors.groupingBy(Order::getStatus, Money.summing(Order::getAmount)));
         System.out.println(orderStatusToSumOfAmontMap);
 
 
@@ -70,9 +71,39 @@ public class StreamCollectGroup {
         List<User> users = prepareUsers();
         EmailService emailService = new EmailService();
         Map<Boolean, List<User>> userPartitions = users.stream()
-                .collect(Collectors.partitioningBy(user -> user.getFriendUserIds().size() > 5));
+                .collect(Collectors.partitioningBy(user -> user.getFriends().size() > 5));
         userPartitions.get(true).forEach(emailService::sendPlayWithFriendsEmail);
         userPartitions.get(false).forEach(emailService::sendMakeWithFriendsEmail);
+
+
+        // 7. 커스텀 Collector (상태별 주문 수/금액 히스토그램)
+        System.out.println("\n--- 7. 커스텀 Collector (상태별 히스토그램) ---");
+
+        // groupingBy 체인과 같은 결과를 HashMap, 박싱, 덧셈마다의 할당 없이 long[] 누산기 하나로 집계합니다.
+        StatusHistogram statusHistogram = orders.stream()
+                .collect(StatusHistogramCollector.toStatusHistogram());
+        System.out.println(statusHistogram);
+        System.out.println(statusHistogram.toSumMap());
+
+
+        // 8. 다중 분할 Collector (한 번의 순회로 여러 캠페인 대상 분류)
+        System.out.println("\n--- 8. 다중 분할 Collector (캠페인 대상 분류) ---");
+
+        // 구획마다 filter + collect로 목록을 다시 읽지 않고, 한 번의 순회로 처음 일치하는 구획에 넣습니다.
+        Map<String, List<User>> campaigns = users.stream()
+                .collect(MultiPartitionCollector.<User, List<User>>builder()
+                        .segment("play-with-friends", user -> user.getFriends().size() > 5, Collectors.toList())
+                        .segment("make-more-friends", user -> true, Collectors.toList())
+                        .build());
+        campaigns.get("play-with-friends").forEach(emailService::sendPlayWithFriendsEmail);
+        campaigns.get("make-more-friends").forEach(emailService::sendMakeWithFriendsEmail);
+
+        // 분류 함수가 돌려준 번호의 구획으로 보냅니다. (친구 수 0~4, 5~9, 10 이상)
+        List<Long> friendCountBuckets = users.stream()
+                .collect(MultiPartitionCollector.classifying(3,
+                        user -> Math.min(user.getFriends().size() / 5, 2),
+                        Collectors.counting()));
+        System.out.println(friendCountBuckets);
     }
 
     private static List<User> prepareUsers() {
@@ -101,22 +132,22 @@ public class StreamCollectGroup {
         Order order1 = new Order()
                 .setId(1001L)
                 .setStatus(OrderStatus.CREATED)
-                .setAmount(BigDecimal.valueOf(2000));
+                .setAmount(Money.of(2000));
 
         Order order2 = new Order()
                 .setId(1002L)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(4000));
+                .setAmount(Money.of(4000));
 
         Order order3 = new Order()
                 .setId(1003L)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(3000));
+                .setAmount(Money.of(3000));
 
         Order order4 = new Order()
                 .setId(1004L)
                 .setStatus(OrderStatus.PROCESSED)
-                .setAmount(BigDecimal.valueOf(7000));
+                .setAmount(Money.of(7000));
 
         return Arrays.asList(order1, order2, order3, order4);
     }
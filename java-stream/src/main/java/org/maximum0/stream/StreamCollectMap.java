@@ -1,12 +1,18 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.maximum0.common.Money;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.index.IntIndex;
+import org.maximum0.stream.index.LongIndex;
+import org.maximum0.stream.index.MergePolicy;
+import org.maximum0.stream.index.ShardedIndexCollector;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.User;
@@ -44,6 +50,50 @@ public class StreamCollectMap {
                 .collect(Collectors.toMap(Order::getId, Order::getStatus));
         System.out.println("결과 맵: " + orderIdToOrderStatusMap);
         System.out.println("키 1003L의 값: " + orderIdToOrderStatusMap.get(1003L));
+
+
+        // 4. 기본형 키 인덱스 (IntIndex, LongIndex)
+        System.out.println("\n--- 4. 기본형 키 인덱스 (IntIndex, LongIndex) ---");
+
+        // ID가 중복된 사용자: Collectors.toMap은 IllegalStateException을 던지지만, 병합 정책으로 처리할 수 있습니다.
+        User renamedUser = new User()
+                .setId(101)
+                .setName("Maximum0 (renamed)")
+                .setVerified(true)
+                .setEmailAddress("maximum.zero95@gmail.com");
+        IntIndex<User> userIndex = IntIndex.of(Stream.concat(users.stream(), Stream.of(renamedUser)),
+                User::getId, Function.identity(), MergePolicy.keepLast());
+        System.out.println("인덱스 크기: " + userIndex.size());
+        System.out.println("키 101의 값 (keepLast): " + userIndex.get(101).getName());
+        System.out.println("키 999 포함 여부: " + userIndex.containsKey(999));
+
+        LongIndex<Order> orderIndex = orders.stream()
+                .collect(LongIndex.collector(Order::getId, Function.identity(), MergePolicy.throwing()));
+        System.out.println("키 1003L의 상태: " + orderIndex.get(1003L).getStatus());
+        System.out.println("키 9999L의 값 (기본값): " + orderIndex.getOrDefault(9999L, null));
+
+
+        // 5. 병렬 스트림 인덱싱 (Collectors.toMap vs ShardedIndexCollector)
+        System.out.println("\n--- 5. 병렬 스트림 인덱싱 (Collectors.toMap vs ShardedIndexCollector) ---");
+
+        int orderCount = 1_000_000;
+        List<Order> generatedOrders = new DatasetGenerator(DatasetSpec.builder(42L).build())
+                .orders(orderCount)
+                .collect(Collectors.toList());
+
+        long startTime = System.currentTimeMillis();
+        Map<Long, Order> orderMap = generatedOrders.parallelStream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        System.out.println("Collectors.toMap: " + orderMap.size() + "건, " + (System.currentTimeMillis() - startTime) + "ms");
+
+        // 예상 크기로 샤드 수와 청크 크기를 정하고, 샤드를 다시 해시하지 않고 그대로 인덱스의 세그먼트로 사용합니다.
+        // NOTE: JIT 워밍업 전의 1회 측정이므로 정확한 비교는 ShardedIndexCollectorBenchmark를 참고합니다.
+        startTime = System.currentTimeMillis();
+        LongIndex<Order> shardedOrderIndex = generatedOrders.parallelStream()
+                .collect(ShardedIndexCollector.longKeys(Order::getId, Function.<Order>identity())
+                        .with(builder -> builder.expectedSize = generatedOrders.size())
+                        .build());
+        System.out.println("ShardedIndexCollector: " + shardedOrderIndex.size() + "건, " + (System.currentTimeMillis() - startTime) + "ms");
     }
 
     private static List<User> prepareUsers() {
@@ -72,22 +122,22 @@ public class StreamCollectMap {
         Order order1 = new Order()
                 .setId(1001L)
                 .setStatus(OrderStatus.CREATED)
-                .setAmount(BigDecimal.valueOf(2000));
+                .setAmount(Money.of(2000));
 
         Order order2 = new Order()
                 .setId(1002L)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(4000));
+                .setAmount(Money.of(4000));
 
         Order order3 = new Order()
                 .setId(1003L)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(3000));
+                .setAmount(Money.of(3000));
 
         Order order4 = new Order()
                 .setId(1004L)
                 .setStatus(OrderStatus.PROCESSED)
-                .setAmount(BigDecimal.valueOf(7000));
+                .setAmount(Money.of(7000));
 
         return Arrays.asList(order1, order2, order3, order4);
     }
@@ -1,16 +1,19 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.maximum0.common.Money;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.OrderLine;
 import org.maximum0.stream.model.OrderLine.OrderLineType;
+import org.maximum0.stream.spliterator.OrderLineSpliterator;
 
 /**
  * 스트림 평탄화 (Intermediate Operation: flatMap) 예제.
@@ -44,6 +47,30 @@ public class StreamFlatMap {
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
         System.out.println("결과: " + mergedOrderLines);
+
+
+        // 3. 항목 단위 분할: 항목 수가 치우친 주문 목록을 병렬로 평탄화 (OrderLineSpliterator)
+        // flatMap은 주문 단위로만 나뉘지만, OrderLineSpliterator는 누적 항목 수로 한 주문의 항목도 나눠 처리합니다.
+        System.out.println("\n--- 3. OrderLineSpliterator (항목 수 기준 분할) ---");
+
+        List<Order> skewedOrders = new DatasetGenerator(DatasetSpec.builder(42L)
+                .with(builder -> {
+                    builder.minLinesPerOrder = 1;
+                    builder.maxLinesPerOrder = 500_000;
+                    builder.linesSkew = 4.0;
+                })
+                .build())
+                .orders(20)
+                .collect(Collectors.toList());
+        long lineCount = OrderLineSpliterator.stream(skewedOrders, true).count();
+        Money flatMapTotal = skewedOrders.parallelStream()
+                .map(Order::getOrderLines)
+                .flatMap(List::stream)
+                .collect(Money.summing(OrderLine::getAmount));
+        Money spliteratorTotal = OrderLineSpliterator.stream(skewedOrders, true)
+                .collect(Money.summing(OrderLine::getAmount));
+        System.out.println("주문 " + skewedOrders.size() + "건, 항목 " + lineCount + "건");
+        System.out.println("flatMap 합계: " + flatMapTotal + ", OrderLineSpliterator 합계: " + spliteratorTotal);
     }
 
     private static List<Order> prepareOrdersWithLines(LocalDateTime now) {
@@ -54,11 +81,11 @@ public class StreamFlatMap {
                         new OrderLine()
                                 .setId(10001)
                                 .setType(OrderLineType.PURCHASE)
-                                .setAmount(BigDecimal.valueOf(5000)),
+                                .setAmount(Money.of(5000)),
                         new OrderLine()
                                 .setId(10002)
                                 .setType(OrderLineType.PURCHASE)
-                                .setAmount(BigDecimal.valueOf(4000))
+                                .setAmount(Money.of(4000))
                 ))
                 .setCreatedByUserId(101L)
                 .setCreatedAt(now.minusHours(4));
@@ -70,11 +97,11 @@ public class StreamFlatMap {
                         new OrderLine()
                                 .setId(10003)
                                 .setType(OrderLineType.PURCHASE)
-                                .setAmount(BigDecimal.valueOf(2000)),
+                                .setAmount(Money.of(2000)),
                         new OrderLine()
                                 .setId(10004)
                                 .setType(OrderLineType.DISCOUNT)
-                                .setAmount(BigDecimal.valueOf(-1000))
+                                .setAmount(Money.of(-1000))
                 ))
                 .setCreatedByUserId(102L)
                 .setCreatedAt(now.minusHours(1));
@@ -86,7 +113,7 @@ public class StreamFlatMap {
                         new OrderLine()
                                 .setId(10005)
                                 .setType(OrderLineType.PURCHASE)
-                                .setAmount(BigDecimal.valueOf(2000))
+                                .setAmount(Money.of(2000))
                 ))
                 .setCreatedByUserId(103L)
                 .setCreatedAt(now.minusHours(36));
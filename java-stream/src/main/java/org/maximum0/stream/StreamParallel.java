@@ -3,8 +3,20 @@ package org.maximum0.stream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.ImmutableUser;
 import org.maximum0.stream.model.User;
+import org.maximum0.stream.parallel.ConcurrentFanOut;
+import org.maximum0.stream.parallel.ParallelPipelines;
+import org.maximum0.stream.parallel.Workload;
+import org.maximum0.stream.service.EmailDispatcher;
 import org.maximum0.stream.service.EmailService;
+import org.maximum0.stream.service.EmailTemplate;
+import org.maximum0.stream.service.FakeEmailRelay;
+import org.maximum0.stream.service.InMemoryEmailTransport;
+import org.maximum0.stream.service.ResilientEmailTransport;
+import org.maximum0.stream.service.TokenBucketRateLimiter;
 
 /**
  * 최종 연산: 병렬 스트림 (Parallel Stream) 학습 예제.
@@ -49,6 +61,130 @@ public class StreamParallel {
                 })
                 .collect(Collectors.toList());
         System.out.println(processedUsers);
+
+        // 4. 비동기 배치 전송 (EmailDispatcher)
+        // 이메일 전송을 공용 ForkJoinPool에서 분리하여, 템플릿별 배치로 모아 전용 스레드에서 전송합니다.
+        System.out.println("\n--- 4. EmailDispatcher (비동기 배치 전송) ---");
+        InMemoryEmailTransport transport = new InMemoryEmailTransport();
+        EmailDispatcher dispatcher = EmailDispatcher.builder(transport)
+                .with(builder -> builder.batchSize = 2)
+                .build();
+        try (dispatcher) {
+            dispatcher.dispatchAll(EmailTemplate.VERIFY_YOUR_EMAIL, users.stream().filter(user -> !user.isVerified()));
+            dispatcher.dispatchAll(EmailTemplate.PLAY_WITH_FRIENDS, users.stream().filter(User::isVerified));
+        }
+        transport.getSentMessages().forEach(System.out::println);
+        System.out.println(dispatcher.getMetrics());
+
+        // 5. 대량 사용자 배치 전송: 병렬 스트림은 큐에 넣기만 하고, 배치 전송(배치당 5ms 지연)은 전송 스레드가 담당합니다.
+        System.out.println("\n--- 5. EmailDispatcher (대량 사용자) ---");
+        DatasetGenerator generator = new DatasetGenerator(DatasetSpec.builder(42L)
+                .with(builder -> builder.userCount = 200_000)
+                .build());
+        EmailDispatcher bulkDispatcher = EmailDispatcher.builder(new InMemoryEmailTransport(5L))
+                .with(builder -> {
+                    builder.batchSize = 500;
+                    builder.maxInFlightBatches = 32;
+                })
+                .build();
+        startTime = System.currentTimeMillis();
+        try (bulkDispatcher) {
+            bulkDispatcher.dispatchAll(EmailTemplate.VERIFY_YOUR_EMAIL, generator.users().parallel().filter(user -> !user.isVerified()));
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println(bulkDispatcher.getMetrics());
+        System.out.println("처리 시간: " + (endTime - startTime) + "ms");
+
+        // 6. 속도 제한/재시도 전송 계층
+        // 초당 6,000통 한도, 10% 일시 장애가 있는 릴레이 앞에 토큰 버킷(초당 5,000통)과 지수 백오프 재시도를 둡니다.
+        System.out.println("\n--- 6. ResilientEmailTransport (속도 제한/재시도) ---");
+        FakeEmailRelay relay = FakeEmailRelay.builder(42L)
+                .with(builder -> {
+                    builder.minLatencyMillis = 5L;
+                    builder.maxLatencyMillis = 20L;
+                    builder.failureRate = 0.1;
+                    builder.maxMessagesPerSecond = 6_000L;
+                })
+                .build();
+        ResilientEmailTransport resilientTransport = ResilientEmailTransport.builder(relay)
+                .with(builder -> {
+                    builder.rateLimiter = new TokenBucketRateLimiter(5_000, 1_000);
+                    builder.maxInFlight = 8;
+                })
+                .build();
+        EmailDispatcher relayDispatcher = EmailDispatcher.builder(resilientTransport)
+                .with(builder -> builder.batchSize = 200)
+                .build();
+        startTime = System.currentTimeMillis();
+        try (relayDispatcher) {
+            relayDispatcher.dispatchAll(EmailTemplate.VERIFY_YOUR_EMAIL, generator.users().limit(20_000).parallel().filter(user -> !user.isVerified()));
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println(relayDispatcher.getMetrics());
+        System.out.println("Delivered " + relay.getDelivered() + ", relay failures " + relay.getFailedBatches()
+                + ", relay rejections " + relay.getRejectedBatches() + ", retries " + resilientTransport.getRetries()
+                + ", throttled " + resilientTransport.getThrottledMillis() + "ms");
+        System.out.println("처리 시간: " + (endTime - startTime) + "ms");
+
+        // 7. 전용 ForkJoinPool에서 병렬 파이프라인 실행 (ParallelPipelines)
+        // 블로킹 전송(건당 20ms)은 I/O 전용 풀에서, 집계는 CPU 전용 풀에서 실행하여 공용 풀을 점유하지 않습니다.
+        System.out.println("\n--- 7. ParallelPipelines (전용 풀에서 병렬 스트림 실행) ---");
+        EmailService slowEmailService = new EmailService(new InMemoryEmailTransport(20L));
+        ParallelPipelines ioPipelines = ParallelPipelines.builder(Workload.IO_BOUND)
+                .with(builder -> builder.threadNamePrefix = "email-pipeline")
+                .build();
+        ParallelPipelines cpuPipelines = ParallelPipelines.builder(Workload.CPU_BOUND)
+                .with(builder -> builder.threadNamePrefix = "aggregate-pipeline")
+                .build();
+        try (ioPipelines; cpuPipelines) {
+            List<User> sendTargets = generator.users().limit(1_000).collect(Collectors.toList());
+            startTime = System.currentTimeMillis();
+            ioPipelines.run(() -> sendTargets.parallelStream()
+                    .filter(user -> !user.isVerified())
+                    .forEach(ioPipelines.blocking(slowEmailService::sendVerifyYourEmailEmail)));
+            endTime = System.currentTimeMillis();
+            System.out.println("전송 처리 시간: " + (endTime - startTime) + "ms");
+            System.out.println("I/O 풀: " + ioPipelines.getMetrics());
+
+            long totalFriends = cpuPipelines.call(() -> generator.users().parallel()
+                    .mapToLong(user -> user.getFriends().size())
+                    .sum());
+            System.out.println("전체 친구 수: " + totalFriends);
+            System.out.println("CPU 풀: " + cpuPipelines.getMetrics());
+        }
+
+        // 8. I/O 작업 팬아웃 (ConcurrentFanOut)
+        // 병렬 스트림은 코어 수만큼만 동시에 전송하지만, 팬아웃은 최대 200건을 동시에 전송합니다.
+        System.out.println("\n--- 8. ConcurrentFanOut (동시 전송 수 제한 팬아웃) ---");
+        List<User> fanOutTargets = generator.users().limit(2_000).collect(Collectors.toList());
+        try (ConcurrentFanOut fanOut = ConcurrentFanOut.builder()
+                .with(builder -> builder.maxConcurrency = 200)
+                .build()) {
+            startTime = System.currentTimeMillis();
+            long sentCount = fanOut.forEachConcurrent(fanOutTargets.stream(), slowEmailService::sendVerifyYourEmailEmail);
+            endTime = System.currentTimeMillis();
+            System.out.println("전송 " + sentCount + "건, 처리 시간: " + (endTime - startTime) + "ms");
+
+            // ordered = true(기본)이면 결과가 완료 순서와 관계없이 입력 순서대로 돌아옵니다.
+            List<String> sentTo = fanOut.mapConcurrent(users.stream(), user -> {
+                slowEmailService.sendPlayWithFriendsEmail(user);
+                return user.getName();
+            });
+            System.out.println("전송 대상 (입력 순서): " + sentTo);
+        }
+
+        // 9. 불변 객체로 병렬 변환 (ImmutableUser)
+        // 3번과 같은 변환을 원본 User를 수정하지 않고, 변경된 필드만 다른 새 객체(친구 ID는 공유)로 만듭니다.
+        System.out.println("\n--- 9. ImmutableUser (병렬 스트림에서 안전한 변환) ---");
+        List<User> originalUsers = prepareUsers();
+        List<ImmutableUser> transformedUsers = originalUsers.parallelStream()
+                .map(ImmutableUser.mapping(user -> user
+                        .withName(user.getName().toUpperCase())
+                        .withVerified(true)))
+                .collect(Collectors.toList());
+        System.out.println("변환 결과: " + transformedUsers);
+        System.out.println("원본 (변경 없음): " + originalUsers.get(0));
+        System.out.println("친구 ID 공유 여부: " + (transformedUsers.get(0).getFriends() == originalUsers.get(0).getFriends()));
     }
 
     private static List<User> prepareUsers() {
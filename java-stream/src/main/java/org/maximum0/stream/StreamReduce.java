@@ -1,12 +1,16 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.maximum0.common.Money;
+import org.maximum0.stream.graph.FriendGraph;
+import org.maximum0.stream.graph.MakeMoreFriendsCampaign;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.OrderLine;
 import org.maximum0.stream.model.User;
+import org.maximum0.stream.service.EmailDispatcher;
+import org.maximum0.stream.service.InMemoryEmailTransport;
 
 /**
  * 최종 연산: 축소 (reduce) 학습 예제.
@@ -61,28 +65,51 @@ public class StreamReduce {
         System.out.println("\n--- 5. FlatMap-Reduce (전체 주문 금액) ---");
 
         List<Order> orders = prepareOrdersWithLines();
-        BigDecimal sumOfAmounts = orders.stream()
+        Money sumOfAmounts = orders.stream()
                 .map(Order::getOrderLines)
                 .flatMap(List::stream)
-                .map(OrderLine::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .collect(Money.summing(OrderLine::getAmount));
         System.out.println("전체 주문 금액 합계: " + sumOfAmounts);
+
+
+        // 6. 친구 그래프: 친구 수 합계를 넘어 공통 친구와 친구 추천 계산
+        System.out.println("\n--- 6. FriendGraph (공통 친구 / 친구 추천) ---");
+
+        FriendGraph friendGraph = FriendGraph.from(users);
+        System.out.println(friendGraph);
+        System.out.println("102와 103의 공통 친구: " + friendGraph.mutualFriends(102, 103));
+        System.out.println("102에게 추천할 친구: " + friendGraph.recommend(102, 2));
+
+        // 추천이 있는 사용자에게만 'Make More Friends' 이메일을 보냅니다.
+        InMemoryEmailTransport transport = new InMemoryEmailTransport();
+        EmailDispatcher dispatcher = EmailDispatcher.builder(transport).build();
+        MakeMoreFriendsCampaign campaign = MakeMoreFriendsCampaign.builder(friendGraph)
+                .with(builder -> builder.onSuggested = (user, suggestions) ->
+                        System.out.println("Suggest " + suggestions + " to " + user.getName()))
+                .build();
+        try (dispatcher) {
+            campaign.run(users.stream(), dispatcher);
+        }
+        transport.getSentMessages().forEach(System.out::println);
     }
 
     private static List<User> prepareUsers() {
         User user1 = new User()
                 .setId(101)
                 .setName("Maximum0")
+                .setEmailAddress("maximum.zero95@gmail.com")
                 .setFriendUserIds(Arrays.asList(201, 202, 203, 204));
 
         User user2 = new User()
                 .setId(102)
                 .setName("Alice")
+                .setEmailAddress("alice102@gmail.com")
                 .setFriendUserIds(Arrays.asList(204, 205, 206));
 
         User user3 = new User()
                 .setId(103)
                 .setName("Bob")
+                .setEmailAddress("bob103@gmail.com")
                 .setFriendUserIds(Arrays.asList(204, 205, 207));
 
         return Arrays.asList(user1, user2, user3);
@@ -93,27 +120,27 @@ public class StreamReduce {
                 .setId(1001L)
                 .setOrderLines(Arrays.asList(
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(1000)),
+                                .setAmount(Money.of(1000)),
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(2000))
+                                .setAmount(Money.of(2000))
                 ));
 
         Order order2 = new Order()
                 .setId(1002L)
                 .setOrderLines(Arrays.asList(
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(2000)),
+                                .setAmount(Money.of(2000)),
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(3000))
+                                .setAmount(Money.of(3000))
                 ));
 
         Order order3 = new Order()
                 .setId(1003L)
                 .setOrderLines(Arrays.asList(
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(1000)),
+                                .setAmount(Money.of(1000)),
                         new OrderLine()
-                                .setAmount(BigDecimal.valueOf(2000))
+                                .setAmount(Money.of(2000))
                 ));
 
         return Arrays.asList(order1, order2, order3);
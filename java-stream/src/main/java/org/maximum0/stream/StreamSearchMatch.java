@@ -1,10 +1,10 @@
 package org.maximum0.stream;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.maximum0.common.Money;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.User;
@@ -90,22 +90,22 @@ public class StreamSearchMatch {
         Order order1 = new Order()
                 .setId(1001)
                 .setStatus(OrderStatus.CREATED)
-                .setAmount(BigDecimal.valueOf(2000));
+                .setAmount(Money.of(2000));
 
         Order order2 = new Order()
                 .setId(1002)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(4000));
+                .setAmount(Money.of(4000));
 
         Order order3 = new Order()
                 .setId(1003)
                 .setStatus(OrderStatus.ERROR)
-                .setAmount(BigDecimal.valueOf(3000));
+                .setAmount(Money.of(3000));
 
         Order order4 = new Order()
                 .setId(1004)
                 .setStatus(OrderStatus.PROCESSED)
-                .setAmount(BigDecimal.valueOf(7000));
+                .setAmount(Money.of(7000));
 
         return Arrays.asList(order1, order2, order3, order4);
     }
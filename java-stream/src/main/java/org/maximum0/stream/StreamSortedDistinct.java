@@ -1,20 +1,26 @@
 package org.maximum0.stream;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.maximum0.stream.collector.TopKCollector;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
 import org.maximum0.stream.model.Order;
 import org.maximum0.stream.model.Order.OrderStatus;
 import org.maximum0.stream.model.User;
+import org.maximum0.stream.offheap.ExternalOrderSorter;
 
 /**
  * 스트림 정렬 (sorted) 및 중복 제거 (distinct) 예제.
  */
 public class StreamSortedDistinct {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // 1. 기본 정렬: 숫자 오름차순 정렬
         System.out.println("--- 1. 기본 정렬 (숫자 오름차순) ---");
 
@@ -62,6 +68,46 @@ public class StreamSortedDistinct {
                 .sorted()
                 .collect(Collectors.toList());
         System.out.println("결과: " + uniqueUserIds);
+
+        // 6. Top-K: 전체를 정렬하지 않고 크기 k의 힙으로 앞선 k개만 추출 (TopKCollector)
+        // sorted().limit(k)는 모든 요소를 정렬하지만, TopKCollector는 스레드마다 k개만 유지하고 병합합니다.
+        System.out.println("\n--- 6. Top-K (TopKCollector) ---");
+
+        DatasetGenerator generator = new DatasetGenerator(DatasetSpec.builder(42L).build());
+        List<Order> generatedOrders = generator.orders(200_000).collect(Collectors.toList());
+        List<Long> newestOrderIds = generatedOrders.parallelStream()
+                .collect(TopKCollector.newestOrders(5))
+                .stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        System.out.println("최근 주문 5건: " + newestOrderIds);
+        List<Long> largestOrderIds = generatedOrders.parallelStream()
+                .collect(TopKCollector.largestOrders(5))
+                .stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        System.out.println("금액 상위 주문 5건: " + largestOrderIds);
+        List<String> firstUserNames = generator.users().limit(100_000).parallel()
+                .collect(TopKCollector.firstUsersByName(5))
+                .stream()
+                .map(User::getName)
+                .collect(Collectors.toList());
+        System.out.println("이름 순 사용자 5명: " + firstUserNames);
+
+        // 7. 외부 정렬: 메모리 예산을 넘는 주문을 정렬된 런 파일로 내보낸 뒤 병합 (ExternalOrderSorter)
+        System.out.println("\n--- 7. 외부 정렬 (ExternalOrderSorter) ---");
+
+        ExternalOrderSorter sorter = ExternalOrderSorter.builder(Comparator.comparing(Order::getCreatedAt))
+                .with(builder -> builder.memoryBudgetBytes = 8L * 1024 * 1024)
+                .build();
+        try (Stream<Order> sortedOrders = sorter.sort(generatedOrders.stream())) {
+            List<Long> oldestOrderIds = sortedOrders
+                    .limit(5)
+                    .map(Order::getId)
+                    .collect(Collectors.toList());
+            System.out.println("가장 오래된 주문 5건: " + oldestOrderIds);
+        }
+        System.out.println("런 파일 " + sorter.getSpilledRuns() + "개, 파일로 내보낸 주문 " + sorter.getSpilledOrders() + "건");
     }
 
     private static List<User> prepareUsers() {
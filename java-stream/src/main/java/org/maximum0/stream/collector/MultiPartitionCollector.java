@@ -0,0 +1,204 @@
+package org.maximum0.stream.collector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * 한 번의 순회로 요소를 N개의 구획(segment)에 나누어 각 구획의 하위 Collector로 수집하는 다중 분할 Collector.
+ * 구획마다 filter + collect로 데이터를 다시 읽는 대신, 요소를 한 번만 읽고 일치하는 구획의 누산기로 보냅니다.
+ *
+ * - builder(): 이름이 있는 구획을 (조건, 하위 Collector)로 등록하며, 결과는 등록 순서의 Map<이름, 결과>입니다.
+ *   기본은 처음 일치하는 구획 하나에만 넣고, firstMatchOnly = false이면 일치하는 모든 구획에 넣습니다.
+ * - classifying(): 분류 함수가 돌려준 번호(0 ~ partitions - 1, 음수면 버림)의 구획에 넣으며, 결과는 번호 순의 List입니다.
+ *   partitions 이상의 번호는 IllegalArgumentException을 던집니다.
+ *
+ * 누산기는 구획별 하위 누산기의 배열이며, 병합은 구획별로 하위 Collector의 combiner를 사용하므로 병렬 스트림에서도 안전합니다.
+ */
+public final class MultiPartitionCollector<T, R> implements Collector<T, Object[], List<R>> {
+    // 하위 Collector의 함수는 생성 시점에 한 번만 꺼내 두고 요소마다 재사용합니다.
+    private final Supplier<Object>[] suppliers;
+    private final BiConsumer<Object, Object>[] accumulators;
+    private final BinaryOperator<Object>[] combiners;
+    private final Function<Object, Object>[] finishers;
+    private final Router<? super T> router;
+    private final Set<Characteristics> characteristics;
+
+    /**
+     * 요소가 들어갈 구획 번호를 from부터 찾아 반환합니다. 더 이상 없으면 -1을 반환합니다.
+     */
+    @FunctionalInterface
+    private interface Router<T> {
+        int next(T element, int from);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MultiPartitionCollector(List<? extends Collector<? super T, ?, ? extends R>> downstreams, Router<? super T> router) {
+        int size = downstreams.size();
+        this.suppliers = (Supplier<Object>[]) new Supplier<?>[size];
+        this.accumulators = (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[size];
+        this.combiners = (BinaryOperator<Object>[]) new BinaryOperator<?>[size];
+        this.finishers = (Function<Object, Object>[]) new Function<?, ?>[size];
+        for (int i = 0; i < size; i++) {
+            Collector<Object, Object, Object> downstream = (Collector<Object, Object, Object>) downstreams.get(i);
+            suppliers[i] = downstream.supplier();
+            accumulators[i] = downstream.accumulator();
+            combiners[i] = downstream.combiner();
+            finishers[i] = downstream.finisher();
+        }
+        this.router = router;
+        // 모든 하위 Collector가 순서와 무관할 때만 UNORDERED를 유지합니다.
+        boolean unordered = downstreams.stream()
+                .allMatch(downstream -> downstream.characteristics().contains(Characteristics.UNORDERED));
+        this.characteristics = unordered
+                ? Collections.unmodifiableSet(EnumSet.of(Characteristics.UNORDERED))
+                : Collections.emptySet();
+    }
+
+    public static <T, R> Builder<T, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * classifier가 돌려준 번호의 구획에 요소를 넣어, 구획마다 같은 downstream으로 수집합니다.
+     */
+    public static <T, R> Collector<T, ?, List<R>> classifying(int partitions, ToIntFunction<? super T> classifier,
+                                                              Collector<? super T, ?, R> downstream) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive: " + partitions);
+        }
+        return new MultiPartitionCollector<T, R>(
+                Collections.nCopies(partitions, downstream),
+                (element, from) -> {
+                    if (from > 0) {
+                        return -1;
+                    }
+                    int partition = classifier.applyAsInt(element);
+                    if (partition >= partitions) {
+                        throw new IllegalArgumentException("Partition " + partition + " out of range for " + partitions + " partitions");
+                    }
+                    return partition;
+                });
+    }
+
+    @Override
+    public Supplier<Object[]> supplier() {
+        return () -> {
+            Object[] containers = new Object[suppliers.length];
+            for (int i = 0; i < containers.length; i++) {
+                containers[i] = suppliers[i].get();
+            }
+            return containers;
+        };
+    }
+
+    @Override
+    public BiConsumer<Object[], T> accumulator() {
+        return (containers, element) -> {
+            for (int i = router.next(element, 0); i >= 0; i = router.next(element, i + 1)) {
+                accumulators[i].accept(containers[i], element);
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Object[]> combiner() {
+        return (left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                left[i] = combiners[i].apply(left[i], right[i]);
+            }
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Object[], List<R>> finisher() {
+        return containers -> {
+            List<Object> results = new ArrayList<>(containers.length);
+            for (int i = 0; i < containers.length; i++) {
+                results.add(finishers[i].apply(containers[i]));
+            }
+            @SuppressWarnings("unchecked")
+            List<R> typed = (List<R>) Collections.unmodifiableList(results);
+            return typed;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * 이름이 있는 구획을 등록하여 다중 분할 Collector를 만드는 Builder.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder<T, R> {
+        private final List<String> names = new ArrayList<>();
+        private final List<Predicate<? super T>> predicates = new ArrayList<>();
+        private final List<Collector<? super T, ?, ? extends R>> downstreams = new ArrayList<>();
+        public boolean firstMatchOnly = true;
+
+        private Builder() {
+        }
+
+        /**
+         * predicate를 만족하는 요소를 downstream으로 수집하는 구획을 추가합니다.
+         */
+        public Builder<T, R> segment(String name, Predicate<? super T> predicate, Collector<? super T, ?, ? extends R> downstream) {
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Duplicate segment: " + name);
+            }
+            names.add(name);
+            predicates.add(predicate);
+            downstreams.add(downstream);
+            return this;
+        }
+
+        public Builder<T, R> with(Consumer<Builder<T, R>> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+
+        public Collector<T, ?, Map<String, R>> build() {
+            @SuppressWarnings("unchecked")
+            Predicate<? super T>[] tests = (Predicate<? super T>[]) predicates.toArray(new Predicate<?>[0]);
+            boolean firstMatch = firstMatchOnly;
+            Router<T> router = (element, from) -> {
+                if (firstMatch && from > 0) {
+                    return -1;
+                }
+                for (int i = from; i < tests.length; i++) {
+                    if (tests[i].test(element)) {
+                        return i;
+                    }
+                }
+                return -1;
+            };
+
+            List<String> segmentNames = List.copyOf(names);
+            return Collectors.collectingAndThen(
+                    new MultiPartitionCollector<T, R>(List.copyOf(downstreams), router),
+                    results -> {
+                        Map<String, R> resultsByName = new LinkedHashMap<>();
+                        for (int i = 0; i < segmentNames.size(); i++) {
+                            resultsByName.put(segmentNames.get(i), results.get(i));
+                        }
+                        return Collections.unmodifiableMap(resultsByName);
+                    });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.maximum0.stream.collector;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order.OrderStatus;
+
+/**
+ * 주문 상태(OrderStatus)별 주문 수와 금액 합계(센트)를 담는 불변 히스토그램.
+ * 내부적으로 OrderStatus.ordinal() 위치의 기본형 배열만 가지므로 Map보다 작고 빠르게 조회됩니다.
+ */
+public final class StatusHistogram {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final long[] counts;
+    private final long[] sumCents;
+
+    StatusHistogram(long[] counts, long[] sumCents) {
+        this.counts = counts;
+        this.sumCents = sumCents;
+    }
+
+    public long getCount(OrderStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    public long getSumCents(OrderStatus status) {
+        return sumCents[status.ordinal()];
+    }
+
+    public Money getSum(OrderStatus status) {
+        return Money.ofMinor(sumCents[status.ordinal()]);
+    }
+
+    public long getTotalCount() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Collectors.groupingBy(Order::getStatus, ...reducing(Money.ZERO, Money::plus))와 같은 형태의 맵으로 변환합니다.
+     * (주문이 없는 상태는 포함되지 않습니다.)
+     */
+    public Map<OrderStatus, Money> toSumMap() {
+        Map<OrderStatus, Money> result = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            if (counts[status.ordinal()] > 0) {
+                result.put(status, getSum(status));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StatusHistogram)) {
+            return false;
+        }
+        StatusHistogram other = (StatusHistogram) o;
+        return Arrays.equals(counts, other.counts) && Arrays.equals(sumCents, other.sumCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(counts) + Arrays.hashCode(sumCents);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("StatusHistogram{");
+        for (OrderStatus status : STATUSES) {
+            if (status.ordinal() > 0) {
+                builder.append(", ");
+            }
+            builder.append(status).append("=").append(getCount(status)).append("/").append(getSum(status));
+        }
+        return builder.append('}').toString();
+    }
+}
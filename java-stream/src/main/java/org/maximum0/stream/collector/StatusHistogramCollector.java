@@ -0,0 +1,74 @@
+package org.maximum0.stream.collector;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+
+/**
+ * 주문을 상태별 주문 수와 금액 합계로 집계하는 기본형 특화 Collector.
+ * groupingBy + mapping + reducing(Money.ZERO, Money::plus) 조합과 달리 HashMap, 박싱, 덧셈마다의 할당이 없으며,
+ * 누산기는 long[2 * OrderStatus 수] 배열 하나입니다. ([0, N): 주문 수, [N, 2N): 금액 합계(센트))
+ *
+ * 상태가 null인 주문은 무시하고, 금액이 null인 주문은 주문 수에만 포함합니다.
+ */
+public final class StatusHistogramCollector implements Collector<Order, long[], StatusHistogram> {
+    private static final StatusHistogramCollector INSTANCE = new StatusHistogramCollector();
+    private static final int NUMBER_OF_STATUSES = OrderStatus.values().length;
+
+    private StatusHistogramCollector() {
+    }
+
+    public static Collector<Order, long[], StatusHistogram> toStatusHistogram() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Supplier<long[]> supplier() {
+        return () -> new long[2 * NUMBER_OF_STATUSES];
+    }
+
+    @Override
+    public BiConsumer<long[], Order> accumulator() {
+        return (accumulator, order) -> {
+            OrderStatus status = order.getStatus();
+            if (status == null) {
+                return;
+            }
+            int ordinal = status.ordinal();
+            accumulator[ordinal]++;
+            if (order.getAmount() != null) {
+                int sumIndex = NUMBER_OF_STATUSES + ordinal;
+                accumulator[sumIndex] = Math.addExact(accumulator[sumIndex], order.getAmount().getMinorUnits());
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<long[]> combiner() {
+        return (left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                left[i] = Math.addExact(left[i], right[i]);
+            }
+            return left;
+        };
+    }
+
+    @Override
+    public Function<long[], StatusHistogram> finisher() {
+        return accumulator -> new StatusHistogram(
+                Arrays.copyOfRange(accumulator, 0, NUMBER_OF_STATUSES),
+                Arrays.copyOfRange(accumulator, NUMBER_OF_STATUSES, 2 * NUMBER_OF_STATUSES));
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Set.of(Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,113 @@
+package org.maximum0.stream.collector;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.User;
+
+/**
+ * comparator 순서로 앞선 k개의 요소만 남기는 Top-K Collector. sorted(comparator).limit(k)와 같은 요소를 돌려줍니다.
+ * 전체를 정렬하지 않고 크기 k의 힙만 유지하므로 O(n log k) 시간, O(k) 메모리를 사용합니다.
+ *
+ * - 누산기: 지금까지 남긴 요소 중 가장 뒤처진 요소가 머리에 오는 크기 k의 최대 힙
+ * - 병합: 오른쪽 힙의 요소를 왼쪽 힙에 넣으므로 병렬 스트림에서도 각 스레드가 k개만 유지합니다.
+ * - 결과: comparator 순서로 정렬된 읽기 전용 목록. 순위가 같은 요소 중 어느 것이 남을지는 정해지지 않습니다.
+ */
+public final class TopKCollector<T> implements Collector<T, PriorityQueue<T>, List<T>> {
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final Comparator<? super T> reversed;
+
+    private TopKCollector(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.reversed = Collections.reverseOrder(comparator);
+    }
+
+    /**
+     * comparator 순서로 앞선 k개의 요소를 모읍니다.
+     */
+    public static <T> Collector<T, ?, List<T>> top(int k, Comparator<? super T> comparator) {
+        return new TopKCollector<>(k, comparator);
+    }
+
+    /**
+     * 가장 최근에 생성된 주문 k개 (생성 시각 내림차순)
+     */
+    public static Collector<Order, ?, List<Order>> newestOrders(int k) {
+        return top(k, Comparator.comparing(Order::getCreatedAt).reversed());
+    }
+
+    /**
+     * 금액이 가장 큰 주문 k개 (금액 내림차순)
+     */
+    public static Collector<Order, ?, List<Order>> largestOrders(int k) {
+        return top(k, Comparator.comparing(Order::getAmount).reversed());
+    }
+
+    /**
+     * 이름 순으로 앞선 사용자 k명 (이름 오름차순)
+     */
+    public static Collector<User, ?, List<User>> firstUsersByName(int k) {
+        return top(k, Comparator.comparing(User::getName));
+    }
+
+    @Override
+    public Supplier<PriorityQueue<T>> supplier() {
+        return () -> new PriorityQueue<>(k + 1, reversed);
+    }
+
+    @Override
+    public BiConsumer<PriorityQueue<T>, T> accumulator() {
+        return this::offer;
+    }
+
+    private void offer(PriorityQueue<T> heap, T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (k > 0 && comparator.compare(element, heap.peek()) < 0) {
+            // 가장 뒤처진 요소보다 앞설 때만 교체합니다.
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    @Override
+    public BinaryOperator<PriorityQueue<T>> combiner() {
+        return (left, right) -> {
+            PriorityQueue<T> larger = left.size() >= right.size() ? left : right;
+            PriorityQueue<T> smaller = larger == left ? right : left;
+            for (T element : smaller) {
+                offer(larger, element);
+            }
+            return larger;
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<PriorityQueue<T>, List<T>> finisher() {
+        return heap -> {
+            T[] elements = (T[]) heap.toArray();
+            Arrays.sort(elements, comparator);
+            return Collections.unmodifiableList(Arrays.asList(elements));
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Set.of(Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,327 @@
+package org.maximum0.stream.columnar;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.Collector;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+
+/**
+ * 주문(Order) 목록을 컬럼 단위의 기본형 배열로 저장하는 컬럼 기반(Columnar) 테이블.
+ * 행마다 객체를 따라가는 대신 같은 컬럼의 값이 연속된 배열에 놓이므로, 필터/그룹/합계 연산이 박싱과 할당 없이 수행됩니다.
+ *
+ * - 금액(amount)은 Money의 최소 단위(센트) 값 그대로 저장됩니다.
+ * - 생성 시각(createdAt)은 UTC 기준 epoch millis로 저장됩니다.
+ * - 주문 라인(orderLines)은 저장하지 않습니다.
+ * - 값이 없는(null) 필드는 NULL_* 상수로 표시되며, 집계에서 제외됩니다.
+ */
+public class OrderTable {
+    public static final int AMOUNT_SCALE = Money.SCALE;
+    public static final long NULL_AMOUNT = Long.MIN_VALUE;
+    public static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    public static final byte NULL_STATUS = -1;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final int size;
+    private final long[] ids;
+    private final long[] amountCents;
+    private final byte[] statuses;
+    private final long[] createdAtEpochMillis;
+    private final long[] createdByUserIds;
+
+    private OrderTable(int size, long[] ids, long[] amountCents, byte[] statuses,
+                       long[] createdAtEpochMillis, long[] createdByUserIds) {
+        this.size = size;
+        this.ids = ids;
+        this.amountCents = amountCents;
+        this.statuses = statuses;
+        this.createdAtEpochMillis = createdAtEpochMillis;
+        this.createdByUserIds = createdByUserIds;
+    }
+
+    public static OrderTable from(Collection<Order> orders) {
+        Builder builder = new Builder(orders.size());
+        orders.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * 스트림의 주문을 OrderTable로 수집하는 Collector. 병렬 스트림에서는 부분 테이블을 이어 붙여 병합합니다.
+     */
+    public static Collector<Order, ?, OrderTable> collector() {
+        return Collector.of(Builder::new, Builder::add, Builder::addAll, Builder::build);
+    }
+
+    public List<Order> toOrders() {
+        List<Order> orders = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            orders.add(toOrder(row));
+        }
+        return orders;
+    }
+
+    public Order toOrder(int row) {
+        checkRow(row);
+        return new Order()
+                .setId(ids[row])
+                .setCreatedAt(toLocalDateTime(createdAtEpochMillis[row]))
+                .setCreatedByUserId(createdByUserIds[row])
+                .setStatus(statuses[row] == NULL_STATUS ? null : STATUSES[statuses[row]])
+                .setAmount(amountCents[row] == NULL_AMOUNT ? null : Money.ofMinor(amountCents[row]));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getId(int row) {
+        checkRow(row);
+        return ids[row];
+    }
+
+    public long getAmountCents(int row) {
+        checkRow(row);
+        return amountCents[row];
+    }
+
+    public OrderStatus getStatus(int row) {
+        checkRow(row);
+        return statuses[row] == NULL_STATUS ? null : STATUSES[statuses[row]];
+    }
+
+    public long getCreatedAtEpochMillis(int row) {
+        checkRow(row);
+        return createdAtEpochMillis[row];
+    }
+
+    public long getCreatedByUserId(int row) {
+        checkRow(row);
+        return createdByUserIds[row];
+    }
+
+    // --- 필터 (Filter) ---
+
+    /**
+     * 행 번호에 대한 조건(rowPredicate)을 만족하는 행만 담은 새 테이블을 반환합니다.
+     */
+    public OrderTable filter(IntPredicate rowPredicate) {
+        int[] selection = new int[size];
+        int selected = 0;
+        for (int row = 0; row < size; row++) {
+            if (rowPredicate.test(row)) {
+                selection[selected++] = row;
+            }
+        }
+        return select(selection, selected);
+    }
+
+    public OrderTable filterByStatus(OrderStatus status) {
+        byte ordinal = (byte) status.ordinal();
+        int[] selection = new int[size];
+        int selected = 0;
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == ordinal) {
+                selection[selected++] = row;
+            }
+        }
+        return select(selection, selected);
+    }
+
+    public OrderTable filterCreatedAfter(LocalDateTime createdAt) {
+        long threshold = toEpochMillis(createdAt);
+        int[] selection = new int[size];
+        int selected = 0;
+        for (int row = 0; row < size; row++) {
+            long value = createdAtEpochMillis[row];
+            if (value != NULL_TIMESTAMP && value > threshold) {
+                selection[selected++] = row;
+            }
+        }
+        return select(selection, selected);
+    }
+
+    // --- 집계 (Aggregate) ---
+
+    public long sumAmountCents() {
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            long value = amountCents[row];
+            if (value != NULL_AMOUNT) {
+                sum = Math.addExact(sum, value);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 금액의 최댓값(센트)을 반환합니다. 값이 없으면 NULL_AMOUNT를 반환합니다.
+     */
+    public long maxAmountCents() {
+        long max = NULL_AMOUNT;
+        for (int row = 0; row < size; row++) {
+            long value = amountCents[row];
+            if (value != NULL_AMOUNT && value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 상태별 주문 수를 OrderStatus.ordinal() 위치에 담아 반환합니다.
+     */
+    public long[] countByStatus() {
+        long[] counts = new long[STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            byte status = statuses[row];
+            if (status != NULL_STATUS) {
+                counts[status]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 상태별 금액 합계(센트)를 OrderStatus.ordinal() 위치에 담아 반환합니다.
+     */
+    public long[] sumAmountCentsByStatus() {
+        long[] sums = new long[STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            byte status = statuses[row];
+            long value = amountCents[row];
+            if (status != NULL_STATUS && value != NULL_AMOUNT) {
+                sums[status] = Math.addExact(sums[status], value);
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Collectors.groupingBy(Order::getStatus, ...reducing(Money.ZERO, Money::plus))와 같은 결과를 반환합니다.
+     * (주문이 없는 상태는 포함되지 않습니다.)
+     */
+    public Map<OrderStatus, Money> sumAmountByStatus() {
+        long[] counts = countByStatus();
+        long[] sums = sumAmountCentsByStatus();
+        Map<OrderStatus, Money> result = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            if (counts[status.ordinal()] > 0) {
+                result.put(status, Money.ofMinor(sums[status.ordinal()]));
+            }
+        }
+        return result;
+    }
+
+    public static long toAmountCents(Money amount) {
+        return amount == null ? NULL_AMOUNT : amount.getMinorUnits();
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NULL_TIMESTAMP : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == NULL_TIMESTAMP ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private OrderTable select(int[] selection, int selected) {
+        long[] selectedIds = new long[selected];
+        long[] selectedAmountCents = new long[selected];
+        byte[] selectedStatuses = new byte[selected];
+        long[] selectedCreatedAt = new long[selected];
+        long[] selectedCreatedBy = new long[selected];
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            selectedIds[i] = ids[row];
+            selectedAmountCents[i] = amountCents[row];
+            selectedStatuses[i] = statuses[row];
+            selectedCreatedAt[i] = createdAtEpochMillis[row];
+            selectedCreatedBy[i] = createdByUserIds[row];
+        }
+        return new OrderTable(selected, selectedIds, selectedAmountCents, selectedStatuses, selectedCreatedAt, selectedCreatedBy);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * 주문을 한 건씩 추가하며 컬럼 배열을 키워가는 Builder.
+     */
+    public static class Builder {
+        private int size;
+        private long[] ids;
+        private long[] amountCents;
+        private byte[] statuses;
+        private long[] createdAtEpochMillis;
+        private long[] createdByUserIds;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(1, initialCapacity);
+            this.ids = new long[capacity];
+            this.amountCents = new long[capacity];
+            this.statuses = new byte[capacity];
+            this.createdAtEpochMillis = new long[capacity];
+            this.createdByUserIds = new long[capacity];
+        }
+
+        public Builder add(Order order) {
+            ensureCapacity(size + 1);
+            ids[size] = order.getId();
+            amountCents[size] = toAmountCents(order.getAmount());
+            statuses[size] = order.getStatus() == null ? NULL_STATUS : (byte) order.getStatus().ordinal();
+            createdAtEpochMillis[size] = toEpochMillis(order.getCreatedAt());
+            createdByUserIds[size] = order.getCreatedByUserId();
+            size++;
+            return this;
+        }
+
+        public Builder addAll(Builder other) {
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.ids, 0, ids, size, other.size);
+            System.arraycopy(other.amountCents, 0, amountCents, size, other.size);
+            System.arraycopy(other.statuses, 0, statuses, size, other.size);
+            System.arraycopy(other.createdAtEpochMillis, 0, createdAtEpochMillis, size, other.size);
+            System.arraycopy(other.createdByUserIds, 0, createdByUserIds, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        public OrderTable build() {
+            return new OrderTable(size,
+                    Arrays.copyOf(ids, size),
+                    Arrays.copyOf(amountCents, size),
+                    Arrays.copyOf(statuses, size),
+                    Arrays.copyOf(createdAtEpochMillis, size),
+                    Arrays.copyOf(createdByUserIds, size));
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            createdAtEpochMillis = Arrays.copyOf(createdAtEpochMillis, capacity);
+            createdByUserIds = Arrays.copyOf(createdByUserIds, capacity);
+        }
+    }
+}
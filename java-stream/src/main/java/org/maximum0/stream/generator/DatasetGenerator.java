@@ -0,0 +1,135 @@
+package org.maximum0.stream.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.maximum0.common.FriendSet;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.OrderLine;
+import org.maximum0.stream.model.OrderLine.OrderLineType;
+import org.maximum0.stream.model.User;
+
+/**
+ * 시드 기반의 재현 가능한 대용량 Order/User 데이터셋 생성기.
+ * 각 요소는 (seed, index)만으로 결정되며, Spliterator를 통해 필요할 때마다 생성되므로
+ * 수천만 건을 스트림으로 흘려보내도 전체 데이터가 힙에 적재되지 않습니다.
+ */
+public class DatasetGenerator {
+    public static final long FIRST_ORDER_ID = 1_000L;
+    public static final int FIRST_USER_ID = 100;
+
+    private static final long ORDER_STREAM = 0x6F72646572L;
+    private static final long USER_STREAM = 0x75736572L;
+    private static final long MAX_LINE_AMOUNT_CENTS = 100_000;
+
+    private final DatasetSpec spec;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    public DatasetSpec getSpec() {
+        return spec;
+    }
+
+    public Stream<Order> orders(long count) {
+        return StreamSupport.stream(orderSpliterator(0, count), false);
+    }
+
+    public Stream<User> users() {
+        return StreamSupport.stream(userSpliterator(0, spec.getUserCount()), false);
+    }
+
+    public Spliterator<Order> orderSpliterator(long fromIndex, long toIndex) {
+        return new IndexedSpliterator<>(this::order, fromIndex, toIndex);
+    }
+
+    public Spliterator<User> userSpliterator(long fromIndex, long toIndex) {
+        return new IndexedSpliterator<>(index -> user((int) index), fromIndex, Math.min(toIndex, spec.getUserCount()));
+    }
+
+    /**
+     * index번째 주문을 생성합니다. 주문 금액은 주문 라인 금액의 합계입니다.
+     */
+    public Order order(long index) {
+        SplittableRandom random = randomFor(ORDER_STREAM, index);
+        long orderId = FIRST_ORDER_ID + index;
+
+        int numberOfLines = skewed(random, spec.getMinLinesPerOrder(), spec.getMaxLinesPerOrder(), spec.getLinesSkew());
+        List<OrderLine> orderLines = new ArrayList<>(numberOfLines);
+        long firstOrderLineId = index * (spec.getMaxLinesPerOrder() + 1L) + 1;
+        long amountCents = 0;
+        for (int i = 0; i < numberOfLines; i++) {
+            long lineAmountCents = random.nextLong(100, MAX_LINE_AMOUNT_CENTS);
+            amountCents += lineAmountCents;
+            orderLines.add(new OrderLine()
+                    .setId(firstOrderLineId + i)
+                    .setType(OrderLineType.PURCHASE)
+                    .setProductId(random.nextInt(1, 10_000))
+                    .setQuantity(random.nextInt(1, 10))
+                    .setAmount(Money.ofMinor(lineAmountCents)));
+        }
+
+        long periodSeconds = Math.max(1, spec.getPeriod().getSeconds());
+        return new Order()
+                .setId(orderId)
+                .setCreatedAt(spec.getStartAt().plusSeconds(random.nextLong(periodSeconds)))
+                .setCreatedByUserId(FIRST_USER_ID + random.nextInt(spec.getUserCount()))
+                .setStatus(spec.pickStatus(random.nextDouble()))
+                .setAmount(Money.ofMinor(amountCents))
+                .setOrderLines(orderLines);
+    }
+
+    /**
+     * index번째 사용자를 생성합니다. 친구 ID는 전체 사용자 ID 범위에서 선택됩니다.
+     */
+    public User user(int index) {
+        SplittableRandom random = randomFor(USER_STREAM, index);
+        int userId = FIRST_USER_ID + index;
+
+        int numberOfFriends = skewed(random, spec.getMinFriendsPerUser(), spec.getMaxFriendsPerUser(), spec.getFriendsSkew());
+        int[] friendUserIds = new int[numberOfFriends];
+        for (int i = 0; i < numberOfFriends; i++) {
+            friendUserIds[i] = FIRST_USER_ID + random.nextInt(spec.getUserCount());
+        }
+
+        long periodSeconds = Math.max(1, spec.getPeriod().getSeconds());
+        return new User()
+                .setId(userId)
+                .setName("User" + userId)
+                .setEmailAddress("user" + userId + "@gmail.com")
+                .setVerified(random.nextDouble() < spec.getVerifiedRatio())
+                .setCreatedAt(spec.getStartAt().plusSeconds(random.nextLong(periodSeconds)))
+                .setFriends(FriendSet.of(friendUserIds));
+    }
+
+    private SplittableRandom randomFor(long stream, long index) {
+        return new SplittableRandom(mix(spec.getSeed() ^ stream, index));
+    }
+
+    /**
+     * [min, max] 범위의 값을 skew 지수만큼 치우치게 뽑습니다. (skew > 1이면 작은 값이 더 자주 나옵니다.)
+     */
+    private static int skewed(SplittableRandom random, int min, int max, double skew) {
+        if (min == max) {
+            return min;
+        }
+        double value = Math.pow(random.nextDouble(), skew);
+        // nextDouble() < 1이지만 pow의 반올림으로 1이 될 수 있으므로 max를 넘지 않게 자릅니다.
+        return Math.min(max, min + (int) (value * (max - min + 1)));
+    }
+
+    /**
+     * SplitMix64 해시: 시드와 인덱스를 섞어 요소별로 독립적인 시드를 만듭니다.
+     */
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
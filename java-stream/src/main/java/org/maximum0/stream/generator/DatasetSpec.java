@@ -0,0 +1,186 @@
+package org.maximum0.stream.generator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.maximum0.stream.model.Order.OrderStatus;
+
+/**
+ * 대용량 데이터셋 생성 설정: 불변 객체(Immutable Object)로 설계되었습니다.
+ * 객체 생성은 내부 Builder 클래스를 통해 수행되며, 같은 설정과 시드(seed)는 항상 같은 데이터를 만듭니다.
+ */
+public class DatasetSpec {
+    private final long seed;
+    private final int userCount;
+    private final LocalDateTime startAt;
+    private final Duration period;
+    private final double[] statusWeights;
+    private final int minLinesPerOrder;
+    private final int maxLinesPerOrder;
+    private final double linesSkew;
+    private final int minFriendsPerUser;
+    private final int maxFriendsPerUser;
+    private final double friendsSkew;
+    private final double verifiedRatio;
+
+    private DatasetSpec(Builder builder) {
+        if (builder.userCount <= 0) {
+            throw new IllegalArgumentException("userCount must be positive: " + builder.userCount);
+        }
+        if (builder.minLinesPerOrder < 0 || builder.maxLinesPerOrder < builder.minLinesPerOrder) {
+            throw new IllegalArgumentException("invalid lines per order range: "
+                    + builder.minLinesPerOrder + ".." + builder.maxLinesPerOrder);
+        }
+        if (builder.minFriendsPerUser < 0 || builder.maxFriendsPerUser < builder.minFriendsPerUser) {
+            throw new IllegalArgumentException("invalid friends per user range: "
+                    + builder.minFriendsPerUser + ".." + builder.maxFriendsPerUser);
+        }
+        if (builder.startAt == null) {
+            throw new IllegalArgumentException("startAt must not be null");
+        }
+        if (builder.period == null || builder.period.isNegative()) {
+            throw new IllegalArgumentException("period must not be null or negative: " + builder.period);
+        }
+        requirePositiveSkew("linesSkew", builder.linesSkew);
+        requirePositiveSkew("friendsSkew", builder.friendsSkew);
+        if (!(builder.verifiedRatio >= 0 && builder.verifiedRatio <= 1)) {
+            throw new IllegalArgumentException("verifiedRatio must be in [0, 1]: " + builder.verifiedRatio);
+        }
+        this.seed = builder.seed;
+        this.userCount = builder.userCount;
+        this.startAt = builder.startAt;
+        this.period = builder.period;
+        this.statusWeights = cumulativeWeights(builder.statusWeights);
+        this.minLinesPerOrder = builder.minLinesPerOrder;
+        this.maxLinesPerOrder = builder.maxLinesPerOrder;
+        this.linesSkew = builder.linesSkew;
+        this.minFriendsPerUser = builder.minFriendsPerUser;
+        this.maxFriendsPerUser = builder.maxFriendsPerUser;
+        this.friendsSkew = builder.friendsSkew;
+        this.verifiedRatio = builder.verifiedRatio;
+    }
+
+    public static Builder builder(long seed) {
+        return new Builder(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public LocalDateTime getStartAt() {
+        return startAt;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    public int getMinLinesPerOrder() {
+        return minLinesPerOrder;
+    }
+
+    public int getMaxLinesPerOrder() {
+        return maxLinesPerOrder;
+    }
+
+    public double getLinesSkew() {
+        return linesSkew;
+    }
+
+    public int getMinFriendsPerUser() {
+        return minFriendsPerUser;
+    }
+
+    public int getMaxFriendsPerUser() {
+        return maxFriendsPerUser;
+    }
+
+    public double getFriendsSkew() {
+        return friendsSkew;
+    }
+
+    public double getVerifiedRatio() {
+        return verifiedRatio;
+    }
+
+    /**
+     * 0 이상 1 미만의 값을 누적 가중치에 대응시켜 주문 상태를 선택합니다.
+     */
+    OrderStatus pickStatus(double value) {
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 0; i < statuses.length - 1; i++) {
+            if (value < statusWeights[i]) {
+                return statuses[i];
+            }
+        }
+        return statuses[statuses.length - 1];
+    }
+
+    private static void requirePositiveSkew(String name, double skew) {
+        // NaN도 거부하도록 부정형으로 비교합니다.
+        if (!(skew > 0) || Double.isInfinite(skew)) {
+            throw new IllegalArgumentException(name + " must be a positive finite number: " + skew);
+        }
+    }
+
+    private static double[] cumulativeWeights(double[] weights) {
+        if (weights.length != OrderStatus.values().length) {
+            throw new IllegalArgumentException("statusWeights must have one weight per OrderStatus");
+        }
+        double total = Arrays.stream(weights).sum();
+        if (!(total > 0)) {
+            throw new IllegalArgumentException("statusWeights must sum to a positive value");
+        }
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("statusWeights must not be negative");
+            }
+            sum += weights[i];
+            cumulative[i] = sum / total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * DatasetSpec 객체를 생성하는 내부 Builder 클래스.
+     * skew 값이 1보다 크면 분포가 최솟값 쪽으로 치우치고(롱테일), 1이면 균등 분포가 됩니다. (skew는 0보다 커야 합니다)
+     */
+    public static class Builder {
+        private final long seed;
+        public int userCount = 1_000_000;
+        public LocalDateTime startAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        public Duration period = Duration.ofDays(365);
+        public double[] statusWeights = {1, 1, 1, 1}; // CREATED, IN_PROGRESS, ERROR, PROCESSED
+        public int minLinesPerOrder = 1;
+        public int maxLinesPerOrder = 5;
+        public double linesSkew = 1.0;
+        public int minFriendsPerUser = 0;
+        public int maxFriendsPerUser = 10;
+        public double friendsSkew = 1.0;
+        public double verifiedRatio = 0.5;
+
+        private Builder(long seed) {
+            this.seed = seed;
+        }
+
+        public DatasetSpec build() {
+            return new DatasetSpec(this);
+        }
+
+        /**
+         * 빌더 객체 자신을 인수로 받는 Consumer 람다식을 통해 선택적 필드를 일괄 설정합니다.
+         */
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.maximum0.stream.generator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 인덱스 범위 [origin, fence)의 각 위치에 대해 요소를 그때그때 생성하는 Spliterator.
+ * 요소는 인덱스만으로 결정되므로 전체 데이터를 힙에 올리지 않고, 어떻게 분할되어도 같은 결과를 냅니다.
+ */
+class IndexedSpliterator<T> implements Spliterator<T> {
+    private static final long MIN_SPLIT_SIZE = 1024;
+
+    private final LongFunction<T> generator;
+    private long origin;
+    private final long fence;
+
+    IndexedSpliterator(LongFunction<T> generator, long origin, long fence) {
+        this.generator = generator;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(generator.apply(origin++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long index = origin;
+        origin = fence;
+        for (; index < fence; index++) {
+            action.accept(generator.apply(index));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long size = fence - origin;
+        if (size < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long middle = origin + size / 2;
+        Spliterator<T> prefix = new IndexedSpliterator<>(generator, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
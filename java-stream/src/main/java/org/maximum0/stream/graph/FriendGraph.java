@@ -0,0 +1,307 @@
+package org.maximum0.stream.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+import org.maximum0.common.FriendSet;
+import org.maximum0.stream.model.User;
+
+/**
+ * 사용자 친구 관계를 CSR(Compressed Sparse Row) 인접 배열로 보관하는 불변 그래프.
+ *
+ * 정점은 사용자 ID와 친구 ID에 등장하는 모든 ID이며, 오름차순으로 0부터 시작하는 번호(index)를 붙입니다.
+ * index번째 정점의 친구는 neighbors[offsets[index] ~ offsets[index + 1])에 정렬된 번호로 저장되므로,
+ * 공통 친구 계산은 두 정렬 구간의 병합(교집합)으로 끝납니다.
+ *
+ * - from(users): 친구 관계를 양방향으로 봅니다. (A가 B를 친구로 등록하면 B의 친구에도 A가 포함됩니다.)
+ * - directed(users): getFriendUserIds()에 등록된 방향만 사용합니다.
+ * - 자기 자신을 가리키는 관계와 중복 관계는 제거됩니다.
+ */
+public final class FriendGraph {
+    private final int[] ids;
+    private final int[] offsets;
+    private final int[] neighbors;
+    // ID가 빈틈없이 연속이면 이진 탐색 없이 (id - firstId)로 번호를 구합니다.
+    private final boolean contiguousIds;
+
+    private FriendGraph(int[] ids, int[] offsets, int[] neighbors) {
+        this.ids = ids;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.contiguousIds = ids.length == 0 || (long) ids[ids.length - 1] - ids[0] == ids.length - 1;
+    }
+
+    public static FriendGraph from(Collection<User> users) {
+        return build(users, true);
+    }
+
+    public static FriendGraph directed(Collection<User> users) {
+        return build(users, false);
+    }
+
+    private static FriendGraph build(Collection<User> users, boolean undirected) {
+        // 1. 사용자 ID를 정렬한 뒤, 사용자 목록에 없는 친구 ID만 따로 모아 합쳐 정렬된 정점 목록을 만듭니다.
+        int[] userIds = new int[users.size()];
+        int position = 0;
+        for (User user : users) {
+            userIds[position++] = user.getId();
+        }
+        Arrays.parallelSort(userIds);
+        userIds = distinct(userIds, userIds.length);
+        FriendGraph userIndexer = new FriendGraph(userIds, new int[0], new int[0]);
+
+        int[] extraIds = new int[16];
+        int extraCount = 0;
+        for (User user : users) {
+            FriendSet friends = user.getFriends();
+            for (int i = 0; i < friends.size(); i++) {
+                int friendId = friends.get(i);
+                if (userIndexer.indexOf(friendId) < 0) {
+                    if (extraCount == extraIds.length) {
+                        extraIds = Arrays.copyOf(extraIds, extraCount * 2);
+                    }
+                    extraIds[extraCount++] = friendId;
+                }
+            }
+        }
+        int[] ids = userIds;
+        if (extraCount > 0) {
+            ids = Arrays.copyOf(userIds, userIds.length + extraCount);
+            System.arraycopy(extraIds, 0, ids, userIds.length, extraCount);
+            Arrays.parallelSort(ids);
+            ids = distinct(ids, ids.length);
+        }
+        FriendGraph indexer = new FriendGraph(ids, new int[ids.length + 1], new int[0]);
+
+        // 2. 정점별 관계 수를 세어 구간의 시작 위치를 정합니다.
+        int[] degrees = new int[ids.length];
+        for (User user : users) {
+            int from = indexer.indexOf(user.getId());
+            FriendSet friends = user.getFriends();
+            for (int i = 0; i < friends.size(); i++) {
+                int to = indexer.indexOf(friends.get(i));
+                if (to != from) {
+                    degrees[from]++;
+                    if (undirected) {
+                        degrees[to]++;
+                    }
+                }
+            }
+        }
+        int[] offsets = prefixSum(degrees);
+
+        // 3. 관계를 채웁니다.
+        int[] neighbors = new int[offsets[ids.length]];
+        int[] cursors = Arrays.copyOf(offsets, ids.length);
+        for (User user : users) {
+            int from = indexer.indexOf(user.getId());
+            FriendSet friends = user.getFriends();
+            for (int i = 0; i < friends.size(); i++) {
+                int to = indexer.indexOf(friends.get(i));
+                if (to != from) {
+                    neighbors[cursors[from]++] = to;
+                    if (undirected) {
+                        neighbors[cursors[to]++] = from;
+                    }
+                }
+            }
+        }
+
+        // 4. 정점마다 구간을 정렬하고 중복을 제거한 뒤, 빈자리 없이 다시 모읍니다.
+        int[] distinctDegrees = new int[ids.length];
+        IntStream.range(0, ids.length).parallel().forEach(vertex -> {
+            int start = offsets[vertex];
+            int end = offsets[vertex + 1];
+            Arrays.sort(neighbors, start, end);
+            int size = 0;
+            for (int i = start; i < end; i++) {
+                if (size == 0 || neighbors[i] != neighbors[start + size - 1]) {
+                    neighbors[start + size++] = neighbors[i];
+                }
+            }
+            distinctDegrees[vertex] = size;
+        });
+        int[] compactOffsets = prefixSum(distinctDegrees);
+        int[] compactNeighbors = new int[compactOffsets[ids.length]];
+        IntStream.range(0, ids.length).parallel().forEach(vertex ->
+                System.arraycopy(neighbors, offsets[vertex], compactNeighbors, compactOffsets[vertex], distinctDegrees[vertex]));
+
+        return new FriendGraph(ids, compactOffsets, compactNeighbors);
+    }
+
+    private static int[] distinct(int[] sorted, int length) {
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            if (size == 0 || sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    private static int[] prefixSum(int[] degrees) {
+        int[] offsets = new int[degrees.length + 1];
+        for (int i = 0; i < degrees.length; i++) {
+            offsets[i + 1] = Math.addExact(offsets[i], degrees[i]);
+        }
+        return offsets;
+    }
+
+    /**
+     * 정점 수 (사용자와 친구 ID에 등장한 서로 다른 ID의 수)
+     */
+    public int vertexCount() {
+        return ids.length;
+    }
+
+    /**
+     * 저장된 관계 수. 양방향 그래프에서는 친구 관계 하나가 두 번 저장됩니다.
+     */
+    public long edgeCount() {
+        return neighbors.length;
+    }
+
+    public boolean contains(int userId) {
+        return indexOf(userId) >= 0;
+    }
+
+    public int degree(int userId) {
+        int index = indexOf(userId);
+        return index < 0 ? 0 : offsets[index + 1] - offsets[index];
+    }
+
+    public FriendSet friendsOf(int userId) {
+        int index = indexOf(userId);
+        if (index < 0) {
+            return FriendSet.EMPTY;
+        }
+        return FriendSet.of(toIds(offsets[index], offsets[index + 1]));
+    }
+
+    /**
+     * 두 사용자의 공통 친구 수. 그래프에 없는 사용자는 공통 친구가 없습니다.
+     */
+    public int mutualFriendCount(int userIdA, int userIdB) {
+        int a = indexOf(userIdA);
+        int b = indexOf(userIdB);
+        if (a < 0 || b < 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = offsets[a], j = offsets[b], endA = offsets[a + 1], endB = offsets[b + 1]; i < endA && j < endB; ) {
+            if (neighbors[i] < neighbors[j]) {
+                i++;
+            } else if (neighbors[i] > neighbors[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public FriendSet mutualFriends(int userIdA, int userIdB) {
+        return friendsOf(userIdA).intersect(friendsOf(userIdB));
+    }
+
+    /**
+     * 여러 사용자 쌍(userIdsA[i], userIdsB[i])의 공통 친구 수를 병렬로 계산합니다.
+     */
+    public int[] mutualFriendCounts(int[] userIdsA, int[] userIdsB) {
+        if (userIdsA.length != userIdsB.length) {
+            throw new IllegalArgumentException("Pair arrays differ in length: " + userIdsA.length + " != " + userIdsB.length);
+        }
+        int[] counts = new int[userIdsA.length];
+        IntStream.range(0, counts.length).parallel()
+                .forEach(i -> counts[i] = mutualFriendCount(userIdsA[i], userIdsB[i]));
+        return counts;
+    }
+
+    /**
+     * 친구의 친구 중 아직 친구가 아닌 사용자를 공통 친구 수가 많은 순(같으면 ID 오름차순)으로 최대 k명 추천합니다.
+     * 여러 스레드에서 동시에 호출할 수 있습니다.
+     */
+    public List<FriendSuggestion> recommend(int userId, int k) {
+        int user = indexOf(userId);
+        if (user < 0 || k < 1) {
+            return Collections.emptyList();
+        }
+        int start = offsets[user];
+        int end = offsets[user + 1];
+
+        // 친구의 친구를 모두 모아 정렬하면, 같은 후보의 등장 횟수가 곧 공통 친구 수입니다.
+        int total = 0;
+        for (int i = start; i < end; i++) {
+            total += offsets[neighbors[i] + 1] - offsets[neighbors[i]];
+        }
+        int[] candidates = new int[total];
+        int size = 0;
+        for (int i = start; i < end; i++) {
+            int friend = neighbors[i];
+            for (int j = offsets[friend]; j < offsets[friend + 1]; j++) {
+                int candidate = neighbors[j];
+                if (candidate != user && Arrays.binarySearch(neighbors, start, end, candidate) < 0) {
+                    candidates[size++] = candidate;
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, size);
+
+        // (공통 친구 수 << 32 | 번호를 뒤집은 값)이 클수록 우선순위가 높으며, 크기 k의 최소 힙으로 상위 k개만 남깁니다.
+        PriorityQueue<Long> topK = new PriorityQueue<>(k + 1);
+        for (int i = 0; i < size; ) {
+            int candidate = candidates[i];
+            int count = 0;
+            while (i < size && candidates[i] == candidate) {
+                count++;
+                i++;
+            }
+            topK.add(((long) count << 32) | (Integer.MAX_VALUE - candidate));
+            if (topK.size() > k) {
+                topK.poll();
+            }
+        }
+
+        List<FriendSuggestion> suggestions = new ArrayList<>(topK.size());
+        while (!topK.isEmpty()) {
+            long key = topK.poll();
+            suggestions.add(new FriendSuggestion(ids[Integer.MAX_VALUE - (int) key], (int) (key >>> 32)));
+        }
+        Collections.reverse(suggestions);
+        return suggestions;
+    }
+
+    private int indexOf(int userId) {
+        if (ids.length == 0) {
+            return -1;
+        }
+        if (contiguousIds) {
+            long index = (long) userId - ids[0];
+            return index >= 0 && index < ids.length ? (int) index : -1;
+        }
+        int index = Arrays.binarySearch(ids, userId);
+        return index >= 0 ? index : -1;
+    }
+
+    private int[] toIds(int from, int to) {
+        int[] userIds = new int[to - from];
+        for (int i = from; i < to; i++) {
+            userIds[i - from] = ids[neighbors[i]];
+        }
+        return userIds;
+    }
+
+    @Override
+    public String toString() {
+        return "FriendGraph{" +
+                "vertexCount=" + vertexCount() +
+                ", edgeCount=" + edgeCount() +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package org.maximum0.stream.graph;
+
+/**
+ * 친구 추천 결과 한 건. 추천 대상 사용자 ID와 공통 친구 수를 담습니다.
+ */
+public final class FriendSuggestion {
+    private final int userId;
+    private final int mutualFriendCount;
+
+    public FriendSuggestion(int userId, int mutualFriendCount) {
+        this.userId = userId;
+        this.mutualFriendCount = mutualFriendCount;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getMutualFriendCount() {
+        return mutualFriendCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FriendSuggestion)) {
+            return false;
+        }
+        FriendSuggestion other = (FriendSuggestion) o;
+        return userId == other.userId && mutualFriendCount == other.mutualFriendCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * userId + mutualFriendCount;
+    }
+
+    @Override
+    public String toString() {
+        return "FriendSuggestion{" +
+                "userId=" + userId +
+                ", mutualFriendCount=" + mutualFriendCount +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package org.maximum0.stream.graph;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.maximum0.stream.model.User;
+import org.maximum0.stream.service.EmailDispatcher;
+import org.maximum0.stream.service.EmailTemplate;
+
+/**
+ * 'Make More Friends' 이메일 캠페인. 친구가 적은 사용자에게 FriendGraph의 친구 추천이 있을 때만 이메일을 보냅니다.
+ *
+ * - 대상: 친구 수가 maxFriends 이하인 사용자
+ * - 추천: 공통 친구 수 기준 상위 suggestions명 (추천이 없으면 보내지 않음)
+ * - onSuggested: 이메일을 보낼 사용자와 추천 목록을 받아 본문 작성, 저장 등에 사용합니다.
+ *
+ * 추천 계산은 사용자마다 독립적이므로 병렬 스트림으로 실행할 수 있습니다.
+ */
+public class MakeMoreFriendsCampaign {
+    private final FriendGraph friendGraph;
+    private final int maxFriends;
+    private final int suggestions;
+    private final BiConsumer<User, List<FriendSuggestion>> onSuggested;
+
+    private MakeMoreFriendsCampaign(Builder builder) {
+        this.friendGraph = builder.friendGraph;
+        this.maxFriends = builder.maxFriends;
+        this.suggestions = builder.suggestions;
+        this.onSuggested = builder.onSuggested;
+    }
+
+    public static Builder builder(FriendGraph friendGraph) {
+        return new Builder(friendGraph);
+    }
+
+    /**
+     * 캠페인 대상에게 보낼 이메일을 dispatcher에 넣습니다.
+     *
+     * @return 이메일을 보낸 사용자 수
+     */
+    public long run(Stream<User> users, EmailDispatcher dispatcher) {
+        LongAdder dispatched = new LongAdder();
+        users.filter(user -> user.getFriends().size() <= maxFriends)
+                .forEach(user -> {
+                    List<FriendSuggestion> suggested = friendGraph.recommend(user.getId(), suggestions);
+                    if (!suggested.isEmpty() && dispatcher.dispatch(EmailTemplate.MAKE_MORE_FRIENDS, user)) {
+                        onSuggested.accept(user, suggested);
+                        dispatched.increment();
+                    }
+                });
+        return dispatched.sum();
+    }
+
+    /**
+     * MakeMoreFriendsCampaign 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final FriendGraph friendGraph;
+        public int maxFriends = 5;
+        public int suggestions = 3;
+        public BiConsumer<User, List<FriendSuggestion>> onSuggested = (user, suggested) -> { };
+
+        private Builder(FriendGraph friendGraph) {
+            this.friendGraph = friendGraph;
+        }
+
+        public MakeMoreFriendsCampaign build() {
+            return new MakeMoreFriendsCampaign(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
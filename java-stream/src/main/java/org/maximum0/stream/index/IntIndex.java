@@ -0,0 +1,232 @@
+package org.maximum0.stream.index;
+
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * int 키로 값을 찾는 불변 인덱스. Map<Integer, V>와 달리 키를 박싱하지 않고 개방 주소법(선형 탐사) 배열에 저장합니다.
+ *
+ * - 구조: 해시의 상위 비트로 세그먼트를 고르고, 세그먼트 안에서는 하위 비트로 슬롯을 고릅니다.
+ *   Builder로 만든 인덱스는 세그먼트 하나를 사용하고, ShardedIndexCollector는 샤드를 그대로 세그먼트로 사용합니다.
+ * - 빈 슬롯은 값이 null인 슬롯이므로 null 값은 저장할 수 없습니다.
+ * - 생성 후 바뀌지 않으므로 여러 스레드가 동기화 없이 동시에 조회할 수 있습니다.
+ */
+public final class IntIndex<V> {
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int[][] keys;
+    private final Object[][] values;
+    // 세그먼트 번호 = 해시 >>> segmentShift (세그먼트가 하나이면 32로, 항상 0)
+    private final int segmentShift;
+    private final int size;
+
+    IntIndex(int[][] keys, Object[][] values, int segmentBits, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.segmentShift = 32 - segmentBits;
+        this.size = size;
+    }
+
+    /**
+     * 스트림의 요소를 keyMapper로 얻은 키에 색인합니다. 중복 키는 mergePolicy로 처리합니다.
+     */
+    public static <T, V> IntIndex<V> of(Stream<T> elements, ToIntFunction<? super T> keyMapper,
+                                        Function<? super T, ? extends V> valueMapper, MergePolicy<V> mergePolicy) {
+        return elements.collect(collector(keyMapper, valueMapper, mergePolicy));
+    }
+
+    /**
+     * Collectors.toMap과 같은 방식으로 사용할 수 있는 순차 빌드 Collector.
+     * 병렬 스트림에서는 스레드별 Builder를 병합하며, 대량 병렬 빌드에는 ShardedIndexCollector가 더 적합합니다.
+     */
+    public static <T, V> Collector<T, ?, IntIndex<V>> collector(ToIntFunction<? super T> keyMapper,
+                                                                Function<? super T, ? extends V> valueMapper,
+                                                                MergePolicy<V> mergePolicy) {
+        return Collector.of(
+                () -> new Builder<>(mergePolicy),
+                (builder, element) -> builder.put(keyMapper.applyAsInt(element), valueMapper.apply(element)),
+                Builder::putAll,
+                Builder::build);
+    }
+
+    static int hash(int key) {
+        // MurmurHash3 fmix32: 연속된 ID도 상위/하위 비트에 고르게 퍼지도록 섞습니다.
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    static int tableCapacity(long expectedSize) {
+        long capacity = Long.highestOneBit(Math.max(2L, (long) Math.ceil(expectedSize / LOAD_FACTOR)) - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Too many entries for one segment: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    static boolean needsResize(int size, int capacity) {
+        return size >= capacity * LOAD_FACTOR;
+    }
+
+    /**
+     * 테이블에 키를 넣습니다. 이미 있는 키는 mergePolicy로 값을 합칩니다.
+     *
+     * @return 새 키를 넣었으면 true, 기존 키의 값을 합쳤으면 false
+     */
+    @SuppressWarnings("unchecked")
+    static <V> boolean insert(int[] keys, Object[] values, int hash, int key, V value, MergePolicy<V> mergePolicy) {
+        if (value == null) {
+            throw new NullPointerException("Null value for key " + key);
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            Object existing = values[slot];
+            if (existing == null) {
+                keys[slot] = key;
+                values[slot] = value;
+                return true;
+            }
+            if (keys[slot] == key) {
+                V merged = mergePolicy.merge((V) existing, value);
+                if (merged == null) {
+                    throw new NullPointerException("Merge policy returned null for key " + key);
+                }
+                values[slot] = merged;
+                return false;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int hash = hash(key);
+        int segment = (int) ((hash & 0xFFFFFFFFL) >>> segmentShift);
+        int[] segmentKeys = keys[segment];
+        Object[] segmentValues = values[segment];
+        int mask = segmentKeys.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            Object value = segmentValues[slot];
+            if (value == null) {
+                return null;
+            }
+            if (segmentKeys[slot] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 모든 (값, 키) 쌍을 순회합니다. 순서는 정해져 있지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super V> action) {
+        for (int segment = 0; segment < keys.length; segment++) {
+            int[] segmentKeys = keys[segment];
+            Object[] segmentValues = values[segment];
+            for (int slot = 0; slot < segmentKeys.length; slot++) {
+                if (segmentValues[slot] != null) {
+                    action.accept((V) segmentValues[slot], segmentKeys[slot]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((value, key) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 값을 하나씩 넣으며 테이블을 키워가는 Builder. 스레드 안전하지 않습니다.
+     */
+    public static class Builder<V> {
+        private final MergePolicy<V> mergePolicy;
+        private int[] keys;
+        private Object[] values;
+        private int size;
+
+        public Builder(MergePolicy<V> mergePolicy) {
+            this(16, mergePolicy);
+        }
+
+        public Builder(int expectedSize, MergePolicy<V> mergePolicy) {
+            this.mergePolicy = mergePolicy;
+            int capacity = tableCapacity(expectedSize);
+            this.keys = new int[capacity];
+            this.values = new Object[capacity];
+        }
+
+        public Builder<V> put(int key, V value) {
+            if (insert(keys, values, hash(key), key, value, mergePolicy)) {
+                size++;
+                if (needsResize(size, keys.length)) {
+                    resize();
+                }
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Builder<V> putAll(Builder<V> other) {
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.values[slot] != null) {
+                    put(other.keys[slot], (V) other.values[slot]);
+                }
+            }
+            return this;
+        }
+
+        public IntIndex<V> build() {
+            return new IntIndex<>(new int[][]{keys}, new Object[][]{values}, 0, size);
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (values[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.maximum0.stream.index;
+
+/**
+ * 인덱스에 같은 키가 다시 들어올 때 값을 정하는 정책.
+ * existing은 이미 들어 있는 값, incoming은 새로 들어온 값이며, 반환한 값이 키의 값이 됩니다.
+ */
+@FunctionalInterface
+public interface MergePolicy<V> {
+    V merge(V existing, V incoming);
+
+    /**
+     * 중복 키를 허용하지 않습니다. (Collectors.toMap의 기본 동작)
+     */
+    static <V> MergePolicy<V> throwing() {
+        return (existing, incoming) -> {
+            throw new IllegalStateException("Duplicate key (attempted merging values " + existing + " and " + incoming + ")");
+        };
+    }
+
+    /**
+     * 먼저 들어온 값을 유지합니다.
+     */
+    static <V> MergePolicy<V> keepFirst() {
+        return (existing, incoming) -> existing;
+    }
+
+    /**
+     * 나중에 들어온 값으로 덮어씁니다.
+     */
+    static <V> MergePolicy<V> keepLast() {
+        return (existing, incoming) -> incoming;
+    }
+}
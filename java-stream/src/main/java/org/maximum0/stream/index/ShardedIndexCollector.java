@@ -0,0 +1,249 @@
+package org.maximum0.stream.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * 병렬 스트림에서 IntIndex/LongIndex를 만드는 샤드 분할 Collector.
+ *
+ * Collectors.toMap은 스레드마다 HashMap을 만든 뒤 둘씩 병합하며 모든 항목을 다시 해시합니다. 이 Collector는
+ * 1. 누산: 키를 해시하여 상위 비트로 샤드를 고르고, 샤드별 청크 배열에 (해시, 키, 값)을 해시 테이블 없이 덧붙입니다.
+ * 2. 병합: 샤드별 청크 목록을 이어 붙이기만 합니다. (항목 복사 없음)
+ * 3. 마무리: 청크에 저장한 해시로 샤드마다 정확한 크기의 테이블을 병렬로 한 번에 채우고, 샤드를 그대로 인덱스의 세그먼트로 사용합니다.
+ * 따라서 각 키는 한 번만 해시되고, 각 항목은 최종 테이블에 한 번만 삽입됩니다.
+ *
+ * 청크는 만남 순서(encounter order)대로 이어지므로, 순서가 있는 스트림에서 keepFirst/keepLast는 순차 실행과 같은 결과를 냅니다.
+ */
+public final class ShardedIndexCollector {
+    private static final int MIN_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1 << 16;
+    // 샤드 하나가 담을 항목 수의 목표치. 예상 크기가 크면 샤드 수를 늘려 세그먼트 테이블을 작게 유지합니다.
+    private static final long TARGET_SHARD_SIZE = 1 << 20;
+    private static final int MAX_SHARD_BITS = 12;
+
+    private ShardedIndexCollector() {
+    }
+
+    public static <T, V> Builder<T, V, IntIndex<V>> intKeys(ToIntFunction<? super T> keyMapper,
+                                                             Function<? super T, ? extends V> valueMapper) {
+        return new Builder<>(element -> keyMapper.applyAsInt(element), valueMapper, true);
+    }
+
+    public static <T, V> Builder<T, V, LongIndex<V>> longKeys(ToLongFunction<? super T> keyMapper,
+                                                               Function<? super T, ? extends V> valueMapper) {
+        return new Builder<>(keyMapper, valueMapper, false);
+    }
+
+    /**
+     * 예상 크기와 병렬도로 샤드 수(2의 거듭제곱)의 비트 수를 정합니다.
+     */
+    static int shardBits(long expectedSize, int parallelism) {
+        long shards = Math.max(4L * parallelism, (expectedSize + TARGET_SHARD_SIZE - 1) / TARGET_SHARD_SIZE);
+        int bits = 64 - Long.numberOfLeadingZeros(shards - 1);
+        return Math.min(bits, MAX_SHARD_BITS);
+    }
+
+    /**
+     * 한 샤드에 덧붙인 (해시, 키, 값) 조각. 키는 intKeys이면 intKeys 배열에, 아니면 longKeys 배열에 보관합니다.
+     */
+    private static final class Chunk {
+        final int[] hashes;
+        final int[] intKeys;
+        final long[] longKeys;
+        final Object[] values;
+        int size;
+
+        Chunk(int capacity, boolean intKeyed) {
+            this.hashes = new int[capacity];
+            this.intKeys = intKeyed ? new int[capacity] : null;
+            this.longKeys = intKeyed ? null : new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+
+    /**
+     * 누산기: 샤드별 청크 목록. 병합은 오른쪽 청크 목록을 왼쪽 뒤에 이어 붙입니다.
+     */
+    private static final class Shards {
+        final List<Chunk>[] chunks;
+        final int initialChunkSize;
+        final boolean intKeyed;
+
+        @SuppressWarnings("unchecked")
+        Shards(int shardCount, int initialChunkSize, boolean intKeyed) {
+            this.chunks = (List<Chunk>[]) new List<?>[shardCount];
+            this.initialChunkSize = initialChunkSize;
+            this.intKeyed = intKeyed;
+        }
+
+        void add(int shard, int hash, long key, Object value) {
+            List<Chunk> list = chunks[shard];
+            if (list == null) {
+                list = new ArrayList<>();
+                chunks[shard] = list;
+            }
+            Chunk last = list.isEmpty() ? null : list.get(list.size() - 1);
+            if (last == null || last.size == last.values.length) {
+                int capacity = last == null ? initialChunkSize : Math.min(last.values.length * 2, MAX_CHUNK_SIZE);
+                last = new Chunk(capacity, intKeyed);
+                list.add(last);
+            }
+            last.hashes[last.size] = hash;
+            if (intKeyed) {
+                last.intKeys[last.size] = (int) key;
+            } else {
+                last.longKeys[last.size] = key;
+            }
+            last.values[last.size] = value;
+            last.size++;
+        }
+
+        Shards merge(Shards other) {
+            for (int shard = 0; shard < chunks.length; shard++) {
+                List<Chunk> right = other.chunks[shard];
+                if (right == null) {
+                    continue;
+                }
+                if (chunks[shard] == null) {
+                    chunks[shard] = right;
+                } else {
+                    chunks[shard].addAll(right);
+                }
+            }
+            return this;
+        }
+
+        int count(int shard) {
+            int count = 0;
+            if (chunks[shard] != null) {
+                for (Chunk chunk : chunks[shard]) {
+                    count = Math.addExact(count, chunk.size);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * ShardedIndexCollector를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder<T, V, R> {
+        private final ToLongFunction<? super T> keyMapper;
+        private final Function<? super T, ? extends V> valueMapper;
+        private final boolean intKeys;
+        // 예상 항목 수. 0 이하면 알 수 없는 것으로 보고 병렬도만으로 샤드 수를 정합니다.
+        public long expectedSize = 0;
+        // 샤드 수 (2의 거듭제곱으로 올림). 0이면 expectedSize와 병렬도로 정합니다.
+        public int shards = 0;
+        public int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        public MergePolicy<V> mergePolicy = MergePolicy.throwing();
+
+        private Builder(ToLongFunction<? super T> keyMapper, Function<? super T, ? extends V> valueMapper, boolean intKeys) {
+            this.keyMapper = keyMapper;
+            this.valueMapper = valueMapper;
+            this.intKeys = intKeys;
+        }
+
+        public Builder<T, V, R> with(Consumer<Builder<T, V, R>> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+
+        public Collector<T, ?, R> build() {
+            if (shards < 0 || parallelism < 1) {
+                throw new IllegalArgumentException("Invalid shards/parallelism: " + shards + "/" + parallelism);
+            }
+            int bits = shards > 0
+                    ? Math.min(32 - Integer.numberOfLeadingZeros(shards - 1), MAX_SHARD_BITS)
+                    : shardBits(expectedSize, parallelism);
+            int shardCount = 1 << bits;
+            // 누산기는 보통 스레드 수의 몇 배만큼 만들어지므로, 샤드 청크의 첫 크기를 그만큼 나눠 잡습니다.
+            long perAccumulator = expectedSize / ((long) shardCount * parallelism * 4);
+            int initialChunkSize = (int) Math.max(MIN_CHUNK_SIZE, Math.min(perAccumulator, MAX_CHUNK_SIZE));
+
+            ToLongFunction<? super T> keys = keyMapper;
+            Function<? super T, ? extends V> values = valueMapper;
+            boolean intKeyed = intKeys;
+            MergePolicy<V> policy = mergePolicy;
+            @SuppressWarnings("unchecked")
+            Function<Shards, R> finisher = intKeyed
+                    ? shardsToFinish -> (R) finishInt(shardsToFinish, bits, policy)
+                    : shardsToFinish -> (R) finishLong(shardsToFinish, bits, policy);
+            return Collector.of(
+                    () -> new Shards(shardCount, initialChunkSize, intKeyed),
+                    (accumulator, element) -> {
+                        long key = keys.applyAsLong(element);
+                        int hash = intKeyed ? IntIndex.hash((int) key) : LongIndex.hash(key);
+                        accumulator.add(shardOf(hash, bits), hash, key, values.apply(element));
+                    },
+                    Shards::merge,
+                    finisher);
+        }
+    }
+
+    private static int shardOf(int hash, int bits) {
+        return bits == 0 ? 0 : hash >>> (32 - bits);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> IntIndex<V> finishInt(Shards shards, int bits, MergePolicy<V> mergePolicy) {
+        int shardCount = shards.chunks.length;
+        int[][] keys = new int[shardCount][];
+        Object[][] values = new Object[shardCount][];
+        int[] sizes = new int[shardCount];
+        IntStream.range(0, shardCount).parallel().forEach(shard -> {
+            int capacity = IntIndex.tableCapacity(shards.count(shard));
+            int[] segmentKeys = new int[capacity];
+            Object[] segmentValues = new Object[capacity];
+            int size = 0;
+            if (shards.chunks[shard] != null) {
+                for (Chunk chunk : shards.chunks[shard]) {
+                    for (int i = 0; i < chunk.size; i++) {
+                        if (IntIndex.insert(segmentKeys, segmentValues, chunk.hashes[i], chunk.intKeys[i], (V) chunk.values[i], mergePolicy)) {
+                            size++;
+                        }
+                    }
+                }
+            }
+            keys[shard] = segmentKeys;
+            values[shard] = segmentValues;
+            sizes[shard] = size;
+        });
+        return new IntIndex<>(keys, values, bits, IntStream.of(sizes).sum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> LongIndex<V> finishLong(Shards shards, int bits, MergePolicy<V> mergePolicy) {
+        int shardCount = shards.chunks.length;
+        long[][] keys = new long[shardCount][];
+        Object[][] values = new Object[shardCount][];
+        int[] sizes = new int[shardCount];
+        IntStream.range(0, shardCount).parallel().forEach(shard -> {
+            int capacity = IntIndex.tableCapacity(shards.count(shard));
+            long[] segmentKeys = new long[capacity];
+            Object[] segmentValues = new Object[capacity];
+            int size = 0;
+            if (shards.chunks[shard] != null) {
+                for (Chunk chunk : shards.chunks[shard]) {
+                    for (int i = 0; i < chunk.size; i++) {
+                        if (LongIndex.insert(segmentKeys, segmentValues, chunk.hashes[i], chunk.longKeys[i], (V) chunk.values[i], mergePolicy)) {
+                            size++;
+                        }
+                    }
+                }
+            }
+            keys[shard] = segmentKeys;
+            values[shard] = segmentValues;
+            sizes[shard] = size;
+        });
+        return new LongIndex<>(keys, values, bits, IntStream.of(sizes).sum());
+    }
+}
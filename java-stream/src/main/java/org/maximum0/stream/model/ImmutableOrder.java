@@ -0,0 +1,153 @@
+package org.maximum0.stream.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order.OrderStatus;
+
+/**
+ * Order의 불변 버전. 필드를 바꾸는 대신 with* 메서드로 바뀐 필드만 다른 새 객체를 만듭니다. (copy-on-write)
+ *
+ * - 구조 공유: 주문 항목 목록은 생성 시 한 번만 읽기 전용으로 복사하고, with*로 만든 객체들이 같은 목록을 공유합니다.
+ *   값이 같으면 새 객체를 만들지 않고 자신을 반환합니다.
+ * - OrderLine 자체는 가변 객체이므로, 병렬 변환 중에는 주문 항목을 수정하지 않아야 합니다.
+ */
+public final class ImmutableOrder {
+    private final long id;
+    private final LocalDateTime createdAt;
+    private final long createdByUserId;
+    private final OrderStatus status;
+    private final Money amount;
+    private final List<OrderLine> orderLines;
+
+    private ImmutableOrder(long id, LocalDateTime createdAt, long createdByUserId, OrderStatus status, Money amount,
+                           List<OrderLine> orderLines) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.createdByUserId = createdByUserId;
+        this.status = status;
+        this.amount = amount;
+        this.orderLines = orderLines;
+    }
+
+    /**
+     * 가변 Order의 현재 값으로 불변 객체를 만듭니다. 주문 항목 목록은 읽기 전용으로 복사합니다.
+     */
+    public static ImmutableOrder of(Order order) {
+        List<OrderLine> orderLines = order.getOrderLines() == null ? List.of() : List.copyOf(order.getOrderLines());
+        return new ImmutableOrder(order.getId(), order.getCreatedAt(), order.getCreatedByUserId(), order.getStatus(),
+                order.getAmount(), orderLines);
+    }
+
+    /**
+     * Order를 불변 객체로 옮긴 뒤 transform을 적용하는 매핑 함수. 병렬 스트림의 map에서 원본 Order를 수정하지 않고 변환합니다.
+     */
+    public static Function<Order, ImmutableOrder> mapping(UnaryOperator<ImmutableOrder> transform) {
+        return order -> transform.apply(of(order));
+    }
+
+    /**
+     * 기존 Order 기반 API에 넘기기 위한 가변 복사본을 만듭니다. 주문 항목 목록은 읽기 전용 목록을 그대로 공유합니다.
+     */
+    public Order toOrder() {
+        return new Order()
+                .setId(id)
+                .setCreatedAt(createdAt)
+                .setCreatedByUserId(createdByUserId)
+                .setStatus(status)
+                .setAmount(amount)
+                .setOrderLines(orderLines);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getCreatedByUserId() {
+        return createdByUserId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public List<OrderLine> getOrderLines() {
+        return orderLines;
+    }
+
+    public ImmutableOrder withId(long id) {
+        return this.id == id ? this : new ImmutableOrder(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    public ImmutableOrder withCreatedAt(LocalDateTime createdAt) {
+        return Objects.equals(this.createdAt, createdAt)
+                ? this
+                : new ImmutableOrder(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    public ImmutableOrder withCreatedByUserId(long createdByUserId) {
+        return this.createdByUserId == createdByUserId
+                ? this
+                : new ImmutableOrder(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    public ImmutableOrder withStatus(OrderStatus status) {
+        return this.status == status ? this : new ImmutableOrder(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    public ImmutableOrder withAmount(Money amount) {
+        return Objects.equals(this.amount, amount)
+                ? this
+                : new ImmutableOrder(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    public ImmutableOrder withOrderLines(List<OrderLine> orderLines) {
+        List<OrderLine> copied = orderLines == null ? List.of() : List.copyOf(orderLines);
+        return new ImmutableOrder(id, createdAt, createdByUserId, status, amount, copied);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableOrder)) {
+            return false;
+        }
+        ImmutableOrder other = (ImmutableOrder) o;
+        return id == other.id
+                && createdByUserId == other.createdByUserId
+                && status == other.status
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(amount, other.amount)
+                && orderLines.equals(other.orderLines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, createdAt, createdByUserId, status, amount, orderLines);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableOrder{" +
+                "id=" + id +
+                ", createdAt=" + createdAt +
+                ", createdByUserId=" + createdByUserId +
+                ", status=" + status +
+                ", amount=" + amount +
+                ", orderLines=" + orderLines +
+                '}';
+    }
+}
@@ -0,0 +1,166 @@
+package org.maximum0.stream.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.maximum0.common.FriendSet;
+
+/**
+ * User의 불변 버전. 필드를 바꾸는 대신 with* 메서드로 바뀐 필드만 다른 새 객체를 만듭니다. (copy-on-write)
+ *
+ * - 구조 공유: 친구 ID(FriendSet)를 포함한 모든 필드가 불변이므로, 새 객체는 바뀌지 않은 필드의 참조를 그대로 공유합니다.
+ *   값이 같으면 새 객체를 만들지 않고 자신을 반환합니다.
+ * - 병렬 스트림: 공유 객체를 수정하지 않으므로 map 단계에서 동기화 없이 안전하게 변환할 수 있습니다.
+ */
+public final class ImmutableUser {
+    private final int id;
+    private final String name;
+    private final String emailAddress;
+    private final boolean isVerified;
+    private final LocalDateTime createdAt;
+    private final FriendSet friends;
+
+    private ImmutableUser(int id, String name, String emailAddress, boolean isVerified, LocalDateTime createdAt,
+                          FriendSet friends) {
+        this.id = id;
+        this.name = name;
+        this.emailAddress = emailAddress;
+        this.isVerified = isVerified;
+        this.createdAt = createdAt;
+        this.friends = friends == null ? FriendSet.EMPTY : friends;
+    }
+
+    /**
+     * 가변 User의 현재 값으로 불변 객체를 만듭니다. 친구 ID 집합은 복사하지 않고 공유합니다.
+     */
+    public static ImmutableUser of(User user) {
+        return new ImmutableUser(user.getId(), user.getName(), user.getEmailAddress(), user.isVerified(),
+                user.getCreatedAt(), user.getFriends());
+    }
+
+    /**
+     * User를 불변 객체로 옮긴 뒤 transform을 적용하는 매핑 함수. 병렬 스트림의 map에서 원본 User를 수정하지 않고 변환합니다.
+     */
+    public static Function<User, ImmutableUser> mapping(UnaryOperator<ImmutableUser> transform) {
+        return user -> transform.apply(of(user));
+    }
+
+    /**
+     * 기존 User 기반 API(EmailService 등)에 넘기기 위한 가변 복사본을 만듭니다.
+     */
+    public User toUser() {
+        return new User()
+                .setId(id)
+                .setName(name)
+                .setEmailAddress(emailAddress)
+                .setVerified(isVerified)
+                .setCreatedAt(createdAt)
+                .setFriends(friends);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<String> getEmailAddressOptional() {
+        return Optional.ofNullable(emailAddress);
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public boolean isVerified() {
+        return isVerified;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public FriendSet getFriends() {
+        return friends;
+    }
+
+    /**
+     * 친구 ID 목록의 읽기 전용 뷰 (오름차순, 중복 없음).
+     */
+    public List<Integer> getFriendUserIds() {
+        return friends.asList();
+    }
+
+    public ImmutableUser withId(int id) {
+        return this.id == id ? this : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    public ImmutableUser withName(String name) {
+        return Objects.equals(this.name, name) ? this : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    public ImmutableUser withEmailAddress(String emailAddress) {
+        return Objects.equals(this.emailAddress, emailAddress)
+                ? this
+                : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    public ImmutableUser withVerified(boolean isVerified) {
+        return this.isVerified == isVerified ? this : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    public ImmutableUser withCreatedAt(LocalDateTime createdAt) {
+        return Objects.equals(this.createdAt, createdAt)
+                ? this
+                : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    public ImmutableUser withFriends(FriendSet friends) {
+        return this.friends.equals(friends) ? this : new ImmutableUser(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    /**
+     * 친구를 추가한 새 객체를 만듭니다. 이미 친구이면 자신을 반환합니다.
+     */
+    public ImmutableUser withFriend(int friendUserId) {
+        return friends.contains(friendUserId) ? this : withFriends(friends.union(FriendSet.of(friendUserId)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableUser)) {
+            return false;
+        }
+        ImmutableUser other = (ImmutableUser) o;
+        return id == other.id
+                && isVerified == other.isVerified
+                && Objects.equals(name, other.name)
+                && Objects.equals(emailAddress, other.emailAddress)
+                && Objects.equals(createdAt, other.createdAt)
+                && friends.equals(other.friends);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, emailAddress, isVerified, createdAt, friends);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableUser{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", emailAddress='" + emailAddress + '\'' +
+                ", isVerified=" + isVerified +
+                ", friendUserIds=" + friends +
+                '}';
+    }
+}
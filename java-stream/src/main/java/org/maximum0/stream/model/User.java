@@ -3,6 +3,7 @@ package org.maximum0.stream.model;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.maximum0.common.FriendSet;
 
 public class User {
     private int id;
@@ -10,7 +11,7 @@ public class User {
     private String emailAddress;
     private boolean isVerified;
     private LocalDateTime createdAt;
-    private List<Integer> friendUserIds;
+    private FriendSet friends = FriendSet.EMPTY;
 
     public int getId() {
         return id;
@@ -61,12 +62,24 @@ public class User {
         return this;
     }
 
+    /**
+     * 친구 ID 목록의 읽기 전용 뷰 (오름차순, 중복 없음). 기본형 연산에는 getFriends()를 사용합니다.
+     */
     public List<Integer> getFriendUserIds() {
-        return friendUserIds;
+        return friends.asList();
     }
 
     public User setFriendUserIds(List<Integer> friendUserIds) {
-        this.friendUserIds = friendUserIds;
+        this.friends = FriendSet.copyOf(friendUserIds);
+        return this;
+    }
+
+    public FriendSet getFriends() {
+        return friends;
+    }
+
+    public User setFriends(FriendSet friends) {
+        this.friends = friends == null ? FriendSet.EMPTY : friends;
         return this;
     }
 
@@ -77,7 +90,7 @@ public class User {
                 ", name='" + name + '\'' +
                 ", emailAddress='" + emailAddress + '\'' +
                 ", isVerified=" + isVerified +
-                ", friendUserIds=" + friendUserIds +
+                ", friendUserIds=" + friends +
                 '}';
     }
 }
@@ -0,0 +1,259 @@
+package org.maximum0.stream.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.maximum0.stream.model.Order;
+
+/**
+ * 메모리 예산을 넘는 주문 스트림을 정렬하는 외부 병합 정렬기.
+ *
+ * 1. 주문을 메모리 버퍼에 모으다가 추정 크기가 memoryBudgetBytes를 넘으면, 버퍼를 정렬하여 OrderStoreWriter로 임시 파일(정렬된 런)에 기록합니다.
+ * 2. 입력이 끝나면 각 런을 OrderStore로 열고, 마지막 버퍼(메모리 런)와 함께 크기가 런 수인 힙으로 k-way 병합하며 흘려보냅니다.
+ *
+ * - 입력이 예산 안에 들어오면 파일 없이 메모리에서 정렬합니다.
+ * - 런은 입력 순서대로 만들어지고 같은 값이면 앞선 런을 먼저 내보내므로, sorted(comparator)처럼 안정 정렬입니다.
+ * - 파일에 기록된 주문은 읽을 때 새 Order 객체로 만들어집니다. (OrderStore 형식에 저장되는 필드만 유지)
+ *   createdAt은 나노초까지 그대로 기록하지만, null인 orderLines는 빈 목록으로 돌아옵니다.
+ *   따라서 comparator가 null과 빈 orderLines를 구분하지 않는 한 순서는 메모리 예산과 관계없이 sorted(comparator)와 같습니다.
+ * - 정렬 중 예외가 발생하면 임시 파일을 지우고, 삭제 실패는 원래 예외의 suppressed로 덧붙입니다.
+ * - 반환한 스트림은 임시 파일을 갖고 있으므로 반드시 닫아야 합니다. (try-with-resources)
+ */
+public class ExternalOrderSorter {
+    // 힙에서 Order 하나와 OrderLine 하나가 차지하는 대략적인 크기 (객체 헤더, 필드, Money/LocalDateTime 포함)
+    private static final long ESTIMATED_ORDER_BYTES = 160;
+    private static final long ESTIMATED_LINE_BYTES = 80;
+
+    private final Comparator<? super Order> comparator;
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+
+    private final LongAdder spilledRuns = new LongAdder();
+    private final LongAdder spilledOrders = new LongAdder();
+
+    private ExternalOrderSorter(Builder builder) {
+        if (builder.memoryBudgetBytes < 1) {
+            throw new IllegalArgumentException("memoryBudgetBytes must be positive: " + builder.memoryBudgetBytes);
+        }
+        this.comparator = builder.comparator;
+        this.memoryBudgetBytes = builder.memoryBudgetBytes;
+        this.tempDirectory = builder.tempDirectory;
+    }
+
+    public static Builder builder(Comparator<? super Order> comparator) {
+        return new Builder(comparator);
+    }
+
+    static long estimateBytes(Order order) {
+        List<?> orderLines = order.getOrderLines();
+        return ESTIMATED_ORDER_BYTES + (orderLines == null ? 0 : orderLines.size() * ESTIMATED_LINE_BYTES);
+    }
+
+    /**
+     * 주문을 정렬한 스트림을 반환합니다. 입력 스트림은 이 메서드 안에서 모두 소비됩니다.
+     */
+    public Stream<Order> sort(Stream<Order> orders) throws IOException {
+        List<Order> buffer = new ArrayList<>();
+        long bufferedBytes = 0;
+        List<Path> runs = new ArrayList<>();
+        Path runDirectory = null;
+        try {
+            Iterator<Order> iterator = orders.sequential().iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                buffer.add(order);
+                bufferedBytes += estimateBytes(order);
+                if (bufferedBytes >= memoryBudgetBytes) {
+                    if (runDirectory == null) {
+                        runDirectory = createRunDirectory();
+                    }
+                    runs.add(spill(buffer, runDirectory.resolve("run-" + runs.size() + ".orders")));
+                    buffer = new ArrayList<>();
+                    bufferedBytes = 0;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            addSuppressed(e, deleteRuns(runs, runDirectory));
+            throw e;
+        }
+
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            return buffer.stream();
+        }
+        return merge(runs, runDirectory, buffer);
+    }
+
+    private Path createRunDirectory() throws IOException {
+        return tempDirectory == null
+                ? Files.createTempDirectory("order-sort")
+                : Files.createTempDirectory(tempDirectory, "order-sort");
+    }
+
+    private Path spill(List<Order> buffer, Path run) throws IOException {
+        buffer.sort(comparator);
+        OrderStoreWriter.write(run, buffer.stream());
+        spilledRuns.increment();
+        spilledOrders.add(buffer.size());
+        return run;
+    }
+
+    private Stream<Order> merge(List<Path> runs, Path runDirectory, List<Order> memoryRun) throws IOException {
+        List<OrderStore> stores = new ArrayList<>(runs.size());
+        PriorityQueue<RunHead> heads = new PriorityQueue<>(runs.size() + 1,
+                Comparator.<RunHead, Order>comparing(head -> head.order, comparator).thenComparingInt(head -> head.runIndex));
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                OrderStore store = OrderStore.open(runs.get(i));
+                stores.add(store);
+                new RunHead(i, store.stream().iterator()).advanceInto(heads);
+            }
+            // 메모리에 남은 마지막 버퍼는 파일에 쓰지 않고 가장 늦은 런으로 병합합니다.
+            new RunHead(runs.size(), memoryRun.iterator()).advanceInto(heads);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(stores);
+            addSuppressed(e, deleteRuns(runs, runDirectory));
+            throw e;
+        }
+
+        Iterator<Order> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Order next() {
+                RunHead head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                Order order = head.order;
+                head.advanceInto(heads);
+                return order;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    closeQuietly(stores);
+                    IOException failure = deleteRuns(runs, runDirectory);
+                    if (failure != null) {
+                        throw new UncheckedIOException("Failed to delete sort runs in " + runDirectory, failure);
+                    }
+                });
+    }
+
+    private static void closeQuietly(List<OrderStore> stores) {
+        for (OrderStore store : stores) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                // 런 파일은 곧 삭제되므로 닫기 실패는 무시합니다.
+            }
+        }
+    }
+
+    /**
+     * 런 파일과 디렉터리를 모두 지우고, 지우지 못한 경우의 첫 번째 예외를 반환합니다. (나머지는 suppressed, 없으면 null)
+     */
+    private static IOException deleteRuns(List<Path> runs, Path runDirectory) {
+        if (runDirectory == null) {
+            return null;
+        }
+        IOException failure = null;
+        for (Path run : runs) {
+            failure = deleteIfExists(run, failure);
+        }
+        return deleteIfExists(runDirectory, failure);
+    }
+
+    private static IOException deleteIfExists(Path path, IOException failure) {
+        try {
+            Files.deleteIfExists(path);
+            return failure;
+        } catch (IOException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+
+    private static void addSuppressed(Exception cause, IOException failure) {
+        if (failure != null) {
+            cause.addSuppressed(failure);
+        }
+    }
+
+    /**
+     * 지금까지 파일에 기록한 정렬 런의 수
+     */
+    public long getSpilledRuns() {
+        return spilledRuns.sum();
+    }
+
+    /**
+     * 지금까지 파일에 기록한 주문 수
+     */
+    public long getSpilledOrders() {
+        return spilledOrders.sum();
+    }
+
+    /**
+     * 병합 중인 런의 현재 주문. 런이 끝나면 힙에 다시 넣지 않습니다.
+     */
+    private static final class RunHead {
+        private final int runIndex;
+        private final Iterator<Order> iterator;
+        private Order order;
+
+        private RunHead(int runIndex, Iterator<Order> iterator) {
+            this.runIndex = runIndex;
+            this.iterator = iterator;
+        }
+
+        private void advanceInto(PriorityQueue<RunHead> heads) {
+            if (iterator.hasNext()) {
+                order = iterator.next();
+                heads.add(this);
+            }
+        }
+    }
+
+    /**
+     * ExternalOrderSorter 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final Comparator<? super Order> comparator;
+        public long memoryBudgetBytes = 256L * 1024 * 1024;
+        public Path tempDirectory; // null이면 시스템 임시 디렉터리를 사용합니다.
+
+        private Builder(Comparator<? super Order> comparator) {
+            this.comparator = comparator;
+        }
+
+        public ExternalOrderSorter build() {
+            return new ExternalOrderSorter(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
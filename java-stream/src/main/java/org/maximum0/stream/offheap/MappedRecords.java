@@ -0,0 +1,66 @@
+package org.maximum0.stream.offheap;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일의 한 구간에 연속으로 놓인 고정 길이 레코드를 메모리 맵(FileChannel.map)으로 읽는 뷰.
+ * MappedByteBuffer 하나는 2GB를 넘을 수 없으므로, 레코드 경계에 맞춘 여러 청크(chunk)로 나누어 매핑합니다.
+ * 매핑된 영역은 힙 밖에 있으며 운영체제 페이지 캐시를 통해 필요할 때만 적재됩니다.
+ */
+final class MappedRecords {
+    private final int recordSize;
+    private final long count;
+    private final long recordsPerChunk;
+    private final MappedByteBuffer[] chunks;
+
+    MappedRecords(FileChannel channel, long offset, int recordSize, long count) throws IOException {
+        this(channel, offset, recordSize, count, Integer.MAX_VALUE / recordSize);
+    }
+
+    MappedRecords(FileChannel channel, long offset, int recordSize, long count, long recordsPerChunk) throws IOException {
+        this.recordSize = recordSize;
+        this.count = count;
+        this.recordsPerChunk = recordsPerChunk;
+        int numberOfChunks = (int) ((count + recordsPerChunk - 1) / recordsPerChunk);
+        this.chunks = new MappedByteBuffer[numberOfChunks];
+        for (int i = 0; i < numberOfChunks; i++) {
+            long first = i * recordsPerChunk;
+            long records = Math.min(recordsPerChunk, count - first);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * recordSize, records * recordSize);
+            chunks[i].order(OrderRecordFormat.BYTE_ORDER);
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    long getLong(long index, int field) {
+        return chunk(index).getLong(position(index, field));
+    }
+
+    int getInt(long index, int field) {
+        return chunk(index).getInt(position(index, field));
+    }
+
+    short getShort(long index, int field) {
+        return chunk(index).getShort(position(index, field));
+    }
+
+    byte getByte(long index, int field) {
+        return chunk(index).get(position(index, field));
+    }
+
+    private MappedByteBuffer chunk(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("record " + index + " out of bounds for count " + count);
+        }
+        return chunks[(int) (index / recordsPerChunk)];
+    }
+
+    private int position(long index, int field) {
+        return (int) (index % recordsPerChunk) * recordSize + field;
+    }
+}
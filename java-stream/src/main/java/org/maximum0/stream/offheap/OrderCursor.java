@@ -0,0 +1,155 @@
+package org.maximum0.stream.offheap;
+
+import static org.maximum0.stream.offheap.OrderRecordFormat.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.maximum0.common.Money;
+import org.maximum0.stream.columnar.OrderTable;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.maximum0.stream.model.OrderLine;
+import org.maximum0.stream.model.OrderLine.OrderLineType;
+
+/**
+ * OrderStore의 레코드를 가리키는 플라이웨이트(Flyweight) 커서.
+ * 레코드마다 Order 객체를 만드는 대신, 하나의 커서가 위치(position)만 옮겨가며 매핑된 메모리에서 값을 직접 읽습니다.
+ *
+ * NOTE: 커서는 재사용되므로 다음 레코드로 이동한 뒤에는 이전 값을 참조할 수 없습니다. 값을 보관하려면 toOrder()로 복사하세요.
+ */
+public class OrderCursor {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final OrderLineType[] LINE_TYPES = OrderLineType.values();
+
+    private final MappedRecords orders;
+    private final MappedRecords lines;
+    private long position = -1;
+
+    OrderCursor(MappedRecords orders, MappedRecords lines) {
+        this.orders = orders;
+        this.lines = lines;
+    }
+
+    public OrderCursor moveTo(long position) {
+        if (position < 0 || position >= orders.count()) {
+            throw new IndexOutOfBoundsException("order " + position + " out of bounds for count " + orders.count());
+        }
+        this.position = position;
+        return this;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getId() {
+        return orders.getLong(position, ORDER_ID);
+    }
+
+    public long getCreatedAtEpochMillis() {
+        return orders.getLong(position, ORDER_CREATED_AT);
+    }
+
+    /**
+     * 생성 시각의 밀리초 아래 나노초 (0 ~ 999,999)
+     */
+    public int getCreatedAtNanosOfMilli() {
+        return getNanosOfMilli(orders, position, ORDER_CREATED_AT_NANOS);
+    }
+
+    public long getCreatedByUserId() {
+        return orders.getLong(position, ORDER_CREATED_BY);
+    }
+
+    public long getAmountCents() {
+        return orders.getLong(position, ORDER_AMOUNT);
+    }
+
+    public OrderStatus getStatus() {
+        byte status = orders.getByte(position, ORDER_STATUS);
+        return status == NULL_ENUM ? null : STATUSES[status];
+    }
+
+    public int getLineCount() {
+        return orders.getInt(position, ORDER_LINE_COUNT);
+    }
+
+    public long getLineId(int lineIndex) {
+        return lines.getLong(lineRecord(lineIndex), LINE_ID);
+    }
+
+    public long getLineProductId(int lineIndex) {
+        return lines.getLong(lineRecord(lineIndex), LINE_PRODUCT_ID);
+    }
+
+    public long getLineAmountCents(int lineIndex) {
+        return lines.getLong(lineRecord(lineIndex), LINE_AMOUNT);
+    }
+
+    public int getLineQuantity(int lineIndex) {
+        return lines.getInt(lineRecord(lineIndex), LINE_QUANTITY);
+    }
+
+    public OrderLineType getLineType(int lineIndex) {
+        byte type = lines.getByte(lineRecord(lineIndex), LINE_TYPE);
+        return type == NULL_ENUM ? null : LINE_TYPES[type];
+    }
+
+    /**
+     * 주문 라인 금액의 합계(센트)를 객체 할당 없이 계산합니다. (StreamReduce의 FlatMap-Reduce와 같은 집계)
+     */
+    public long sumLineAmountCents() {
+        long firstLine = orders.getLong(position, ORDER_FIRST_LINE);
+        int lineCount = getLineCount();
+        long sum = 0;
+        for (int i = 0; i < lineCount; i++) {
+            long amount = lines.getLong(firstLine + i, LINE_AMOUNT);
+            if (amount != OrderTable.NULL_AMOUNT) {
+                sum = Math.addExact(sum, amount);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 현재 레코드를 힙의 Order 객체(주문 라인 포함)로 복사합니다.
+     * 형식에 null 표시가 없으므로, null orderLines로 기록한 주문도 빈 목록으로 돌아옵니다.
+     */
+    public Order toOrder() {
+        int lineCount = getLineCount();
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            orderLines.add(new OrderLine()
+                    .setId(getLineId(i))
+                    .setType(getLineType(i))
+                    .setProductId(getLineProductId(i))
+                    .setQuantity(getLineQuantity(i))
+                    .setAmount(toAmount(getLineAmountCents(i))));
+        }
+        return new Order()
+                .setId(getId())
+                .setCreatedAt(toCreatedAt(getCreatedAtEpochMillis(), getCreatedAtNanosOfMilli()))
+                .setCreatedByUserId(getCreatedByUserId())
+                .setStatus(getStatus())
+                .setAmount(toAmount(getAmountCents()))
+                .setOrderLines(orderLines);
+    }
+
+    private long lineRecord(int lineIndex) {
+        int lineCount = getLineCount();
+        if (lineIndex < 0 || lineIndex >= lineCount) {
+            throw new IndexOutOfBoundsException("line " + lineIndex + " out of bounds for count " + lineCount);
+        }
+        return orders.getLong(position, ORDER_FIRST_LINE) + lineIndex;
+    }
+
+    private static LocalDateTime toCreatedAt(long epochMillis, int nanosOfMilli) {
+        LocalDateTime createdAt = OrderTable.toLocalDateTime(epochMillis);
+        return createdAt == null || nanosOfMilli == 0 ? createdAt : createdAt.plusNanos(nanosOfMilli);
+    }
+
+    private static Money toAmount(long amountCents) {
+        return amountCents == OrderTable.NULL_AMOUNT ? null : Money.ofMinor(amountCents);
+    }
+}
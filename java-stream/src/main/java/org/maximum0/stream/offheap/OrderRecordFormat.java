@@ -0,0 +1,76 @@
+package org.maximum0.stream.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * OrderStore 파일의 고정 길이(fixed-width) 바이너리 레코드 형식.
+ *
+ * <pre>
+ * [Header 64B][Order 레코드 48B x orderCount][OrderLine 레코드 32B x lineCount]
+ *
+ * Header    : magic(4) version(4) orderCount(8) lineCount(8) orderOffset(8) lineOffset(8) padding(24)
+ * Order     : id(8) createdAtEpochMillis(8) createdByUserId(8) amountCents(8) firstLineIndex(8) lineCount(4) status(1) createdAtNanosOfMilli(3)
+ * OrderLine : id(8) productId(8) amountCents(8) quantity(4) type(1) padding(3)
+ * </pre>
+ *
+ * 모든 값은 리틀 엔디언이며, 금액/시각/상태의 인코딩은 OrderTable과 동일합니다. (null은 NULL_* 상수)
+ * createdAtNanosOfMilli는 밀리초 아래의 나노초(0 ~ 999,999)를 부호 없는 24비트 값(하위 16비트 + 상위 8비트)으로 저장합니다.
+ * 이전에 기록한 파일은 이 자리가 0(padding)이므로 같은 VERSION으로 읽을 수 있습니다.
+ */
+final class OrderRecordFormat {
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int MAGIC = 0x5344524F; // "ORDS"
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_ORDER_COUNT = 8;
+    static final int HEADER_LINE_COUNT = 16;
+    static final int HEADER_ORDER_OFFSET = 24;
+    static final int HEADER_LINE_OFFSET = 32;
+
+    static final int ORDER_SIZE = 48;
+    static final int ORDER_ID = 0;
+    static final int ORDER_CREATED_AT = 8;
+    static final int ORDER_CREATED_BY = 16;
+    static final int ORDER_AMOUNT = 24;
+    static final int ORDER_FIRST_LINE = 32;
+    static final int ORDER_LINE_COUNT = 40;
+    static final int ORDER_STATUS = 44;
+    static final int ORDER_CREATED_AT_NANOS = 45;
+
+    static final int LINE_SIZE = 32;
+    static final int LINE_ID = 0;
+    static final int LINE_PRODUCT_ID = 8;
+    static final int LINE_AMOUNT = 16;
+    static final int LINE_QUANTITY = 24;
+    static final int LINE_TYPE = 28;
+
+    static final byte NULL_ENUM = -1;
+
+    private OrderRecordFormat() {
+    }
+
+    static void putNanosOfMilli(ByteBuffer buffer, int index, int nanosOfMilli) {
+        buffer.putShort(index, (short) nanosOfMilli)
+                .put(index + 2, (byte) (nanosOfMilli >>> 16));
+    }
+
+    static int getNanosOfMilli(MappedRecords records, long position, int field) {
+        return (records.getShort(position, field) & 0xFFFF) | (records.getByte(position, field + 2) & 0xFF) << 16;
+    }
+
+    static ByteBuffer header(long orderCount, long lineCount, long orderOffset, long lineOffset) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(HEADER_MAGIC, MAGIC)
+                .putInt(HEADER_VERSION, VERSION)
+                .putLong(HEADER_ORDER_COUNT, orderCount)
+                .putLong(HEADER_LINE_COUNT, lineCount)
+                .putLong(HEADER_ORDER_OFFSET, orderOffset)
+                .putLong(HEADER_LINE_OFFSET, lineOffset);
+        return header;
+    }
+}
@@ -0,0 +1,104 @@
+package org.maximum0.stream.offheap;
+
+import static org.maximum0.stream.offheap.OrderRecordFormat.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.maximum0.stream.model.Order;
+
+/**
+ * OrderStoreWriter로 기록한 파일을 메모리 맵으로 열어 읽는 힙 외부(off-heap) 주문 저장소.
+ * 파일 크기와 무관하게 힙 사용량이 일정하므로, 힙보다 큰 주문 이력에도 기존 스트림 파이프라인을 그대로 적용할 수 있습니다.
+ *
+ * - stream(): 레코드마다 Order를 만들어 흘려보냅니다. (기존 파이프라인과 호환)
+ * - cursors(): 할당 없이 재사용되는 OrderCursor를 흘려보냅니다. (집계 전용)
+ */
+public class OrderStore implements AutoCloseable {
+    private final FileChannel channel;
+    private final MappedRecords orders;
+    private final MappedRecords lines;
+
+    private OrderStore(FileChannel channel, MappedRecords orders, MappedRecords lines) {
+        this.channel = channel;
+        this.orders = orders;
+        this.lines = lines;
+    }
+
+    public static OrderStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated order store header: " + file);
+                }
+            }
+            if (header.getInt(HEADER_MAGIC) != MAGIC) {
+                throw new IOException("Not an order store file: " + file);
+            }
+            if (header.getInt(HEADER_VERSION) != VERSION) {
+                throw new IOException("Unsupported order store version " + header.getInt(HEADER_VERSION) + ": " + file);
+            }
+            long orderCount = header.getLong(HEADER_ORDER_COUNT);
+            long lineCount = header.getLong(HEADER_LINE_COUNT);
+            MappedRecords orders = new MappedRecords(channel, header.getLong(HEADER_ORDER_OFFSET), ORDER_SIZE, orderCount);
+            MappedRecords lines = new MappedRecords(channel, header.getLong(HEADER_LINE_OFFSET), LINE_SIZE, lineCount);
+            return new OrderStore(channel, orders, lines);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return orders.count();
+    }
+
+    public long lineCount() {
+        return lines.count();
+    }
+
+    public OrderCursor cursor() {
+        return new OrderCursor(orders, lines);
+    }
+
+    /**
+     * 모든 레코드에 대해 하나의 커서를 재사용하며 action을 실행합니다.
+     */
+    public void forEach(Consumer<OrderCursor> action) {
+        OrderCursor cursor = cursor();
+        long size = size();
+        for (long position = 0; position < size; position++) {
+            action.accept(cursor.moveTo(position));
+        }
+    }
+
+    public Stream<Order> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Spliterator<Order> spliterator() {
+        return new RecordSpliterator<>(this, OrderCursor::toOrder, 0, size());
+    }
+
+    /**
+     * 분할된 Spliterator마다 자신만의 커서를 재사용하는 스트림을 반환합니다.
+     * 커서는 다음 요소로 넘어가면 값이 바뀌므로, 수집(collect)하지 말고 map/filter/reduce로 기본형 값을 뽑아 사용합니다.
+     */
+    public Stream<OrderCursor> cursors() {
+        return StreamSupport.stream(new RecordSpliterator<>(this, Function.identity(), 0, size()), false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,208 @@
+package org.maximum0.stream.offheap;
+
+import static org.maximum0.stream.offheap.OrderRecordFormat.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.maximum0.stream.columnar.OrderTable;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.OrderLine;
+
+/**
+ * 주문(Order)과 주문 라인(OrderLine)을 OrderRecordFormat 형식의 파일로 순차 기록합니다.
+ * 주문 레코드는 대상 파일에, 주문 라인 레코드는 임시 파일에 기록한 뒤 close() 시점에 뒤에 이어 붙이므로
+ * 전체 건수를 미리 알 필요 없이 스트림을 그대로 흘려 기록할 수 있습니다.
+ *
+ * 기록 중 예외가 발생했거나 abort()를 호출하면, close()는 헤더를 쓰지 않고 대상 파일과 임시 파일을 모두 삭제합니다.
+ * (중간에 끊긴 파일이 완전한 저장소처럼 남지 않습니다)
+ */
+public class OrderStoreWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path file;
+    private final Path lineFile;
+    private final FileChannel orderChannel;
+    private final FileChannel lineChannel;
+    private final ByteBuffer orderBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+    private final ByteBuffer lineBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+    private long orderCount;
+    private long lineCount;
+    private boolean failed;
+    private boolean closed;
+
+    public OrderStoreWriter(Path file) throws IOException {
+        this.file = file;
+        this.lineFile = file.resolveSibling(file.getFileName() + ".lines.tmp");
+        this.orderChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            this.lineChannel = FileChannel.open(lineFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            orderChannel.position(HEADER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            try {
+                orderChannel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림의 모든 주문을 file에 기록하고 기록한 주문 수를 반환합니다.
+     */
+    public static long write(Path file, Stream<Order> orders) throws IOException {
+        try (OrderStoreWriter writer = new OrderStoreWriter(file)) {
+            try {
+                orders.forEachOrdered(writer::uncheckedWrite);
+            } catch (Throwable e) {
+                writer.abort();
+                throw e;
+            }
+            return writer.orderCount;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public OrderStoreWriter write(Order order) throws IOException {
+        if (failed || closed) {
+            throw new IllegalStateException("Writer is " + (closed ? "closed" : "aborted") + ": " + file);
+        }
+        try {
+            writeOrder(order);
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * 기록을 중단합니다. 이후 close()는 헤더를 쓰지 않고 대상 파일과 임시 파일을 삭제합니다.
+     */
+    public void abort() {
+        failed = true;
+    }
+
+    private void writeOrder(Order order) throws IOException {
+        List<OrderLine> orderLines = order.getOrderLines();
+        int numberOfLines = orderLines == null ? 0 : orderLines.size();
+
+        if (orderBuffer.remaining() < ORDER_SIZE) {
+            flush(orderBuffer, orderChannel);
+        }
+        int base = orderBuffer.position();
+        orderBuffer.putLong(base + ORDER_ID, order.getId())
+                .putLong(base + ORDER_CREATED_AT, OrderTable.toEpochMillis(order.getCreatedAt()))
+                .putLong(base + ORDER_CREATED_BY, order.getCreatedByUserId())
+                .putLong(base + ORDER_AMOUNT, OrderTable.toAmountCents(order.getAmount()))
+                .putLong(base + ORDER_FIRST_LINE, lineCount)
+                .putInt(base + ORDER_LINE_COUNT, numberOfLines)
+                .put(base + ORDER_STATUS, order.getStatus() == null ? NULL_ENUM : (byte) order.getStatus().ordinal());
+        putNanosOfMilli(orderBuffer, base + ORDER_CREATED_AT_NANOS,
+                order.getCreatedAt() == null ? 0 : order.getCreatedAt().getNano() % 1_000_000);
+        orderBuffer.position(base + ORDER_SIZE);
+
+        for (int i = 0; i < numberOfLines; i++) {
+            writeLine(orderLines.get(i));
+        }
+        orderCount++;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (orderChannel; lineChannel) {
+            if (!failed) {
+                complete();
+            }
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            try {
+                deleteFiles();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        deleteFiles();
+    }
+
+    /**
+     * 남은 버퍼를 비우고 주문 라인을 이어 붙인 뒤, 마지막으로 헤더를 기록합니다.
+     */
+    private void complete() throws IOException {
+        flush(orderBuffer, orderChannel);
+        flush(lineBuffer, lineChannel);
+
+        long lineOffset = HEADER_SIZE + orderCount * ORDER_SIZE;
+        long transferred = 0;
+        long lineBytes = lineCount * LINE_SIZE;
+        while (transferred < lineBytes) {
+            transferred += lineChannel.transferTo(transferred, lineBytes - transferred, orderChannel);
+        }
+
+        ByteBuffer header = header(orderCount, lineCount, HEADER_SIZE, lineOffset);
+        while (header.hasRemaining()) {
+            orderChannel.write(header, header.position());
+        }
+        orderChannel.force(false);
+    }
+
+    private void deleteFiles() throws IOException {
+        Files.deleteIfExists(lineFile);
+        if (failed) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void writeLine(OrderLine orderLine) throws IOException {
+        if (lineBuffer.remaining() < LINE_SIZE) {
+            flush(lineBuffer, lineChannel);
+        }
+        int base = lineBuffer.position();
+        lineBuffer.putLong(base + LINE_ID, orderLine.getId())
+                .putLong(base + LINE_PRODUCT_ID, orderLine.getProductId())
+                .putLong(base + LINE_AMOUNT, OrderTable.toAmountCents(orderLine.getAmount()))
+                .putInt(base + LINE_QUANTITY, orderLine.getQuantity())
+                .put(base + LINE_TYPE, orderLine.getType() == null ? NULL_ENUM : (byte) orderLine.getType().ordinal());
+        lineBuffer.position(base + LINE_SIZE);
+        lineCount++;
+    }
+
+    private void uncheckedWrite(Order order) {
+        try {
+            write(order);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
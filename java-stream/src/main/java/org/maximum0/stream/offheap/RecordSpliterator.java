@@ -0,0 +1,67 @@
+package org.maximum0.stream.offheap;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * OrderStore의 레코드 범위 [origin, fence)를 순회하는 Spliterator.
+ * 분할된 각 Spliterator는 자신만의 OrderCursor를 가지므로 병렬 스트림에서도 커서를 공유하지 않습니다.
+ */
+class RecordSpliterator<T> implements Spliterator<T> {
+    private static final long MIN_SPLIT_SIZE = 4096;
+
+    private final OrderStore store;
+    private final Function<OrderCursor, T> mapper;
+    private final OrderCursor cursor;
+    private long origin;
+    private final long fence;
+
+    RecordSpliterator(OrderStore store, Function<OrderCursor, T> mapper, long origin, long fence) {
+        this.store = store;
+        this.mapper = mapper;
+        this.cursor = store.cursor();
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(mapper.apply(cursor.moveTo(origin++)));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long position = origin;
+        origin = fence;
+        for (; position < fence; position++) {
+            action.accept(mapper.apply(cursor.moveTo(position)));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long size = fence - origin;
+        if (size < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long middle = origin + size / 2;
+        Spliterator<T> prefix = new RecordSpliterator<>(store, mapper, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,204 @@
+package org.maximum0.stream.parallel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 스트림의 요소마다 블로킹 작업(이메일 전송 등)을 동시에 최대 maxConcurrency개까지 실행하는 팬아웃 연산자.
+ * 병렬 스트림의 동시 실행 수는 코어 수로 제한되지만, I/O 대기 위주의 작업은 그보다 훨씬 많이 동시에 실행할 수 있습니다.
+ *
+ * - 실행: 호출 스레드가 스트림을 순서대로 읽어 executor에 작업을 넣고, 실행 중인 작업이 maxConcurrency개이면 하나가 끝날 때까지 기다립니다.
+ *   executor를 지정하지 않으면 maxConcurrency개의 데몬 스레드를 가진 전용 풀을 만들고 close()에서 종료합니다.
+ *   (JDK 21 이상에서는 Executors.newVirtualThreadPerTaskExecutor()를 지정할 수 있습니다.)
+ * - 순서: ordered = true이면 mapConcurrent의 결과를 만남 순서대로, false이면 완료 순서대로 전달합니다.
+ * - 실패: 작업 하나가 실패하면 새 작업을 시작하지 않고 실행 중인 작업을 취소(인터럽트)한 뒤, 처음 발생한 예외를 호출 스레드에서 던집니다.
+ *   ordered여도 완료된 작업을 함께 확인하므로, 앞선 작업이 끝나기를 기다리는 동안 뒤의 작업이 실패해도 바로 멈춥니다.
+ */
+public class ConcurrentFanOut implements AutoCloseable {
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int maxConcurrency;
+    private final boolean ordered;
+
+    private ConcurrentFanOut(Builder builder) {
+        if (builder.maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + builder.maxConcurrency);
+        }
+        this.maxConcurrency = builder.maxConcurrency;
+        this.ordered = builder.ordered;
+        if (builder.executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.ownedExecutor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "fan-out-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = builder.executor;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 모든 요소에 action을 동시에 실행하고, 모두 끝날 때까지 기다립니다.
+     *
+     * @return action을 실행한 요소 수
+     */
+    public <T> long forEachConcurrent(Stream<T> elements, Consumer<? super T> action) {
+        long[] completed = new long[1];
+        // 결과가 없으므로 순서를 지킬 필요가 없어, 항상 완료 순서로 기다립니다.
+        run(elements, element -> {
+            action.accept(element);
+            return Boolean.TRUE;
+        }, result -> completed[0]++, false);
+        return completed[0];
+    }
+
+    /**
+     * 모든 요소에 mapper를 동시에 실행하고 결과를 목록으로 반환합니다. (null 결과도 포함)
+     */
+    public <T, R> List<R> mapConcurrent(Stream<T> elements, Function<? super T, ? extends R> mapper) {
+        List<R> results = new ArrayList<>();
+        mapConcurrent(elements, mapper, results::add);
+        return results;
+    }
+
+    /**
+     * 모든 요소에 mapper를 동시에 실행하고, 결과를 호출 스레드에서 downstream으로 하나씩 전달합니다.
+     * 결과를 모아 두지 않으므로 큰 스트림도 maxConcurrency개의 결과만 메모리에 둡니다.
+     */
+    public <T, R> void mapConcurrent(Stream<T> elements, Function<? super T, ? extends R> mapper,
+                                     Consumer<? super R> downstream) {
+        run(elements, mapper, downstream, ordered);
+    }
+
+    private <T, R> void run(Stream<T> elements, Function<? super T, ? extends R> mapper,
+                            Consumer<? super R> downstream, boolean ordered) {
+        // 완료된 작업을 모아 주는 ExecutorCompletionService로, ordered여도 먼저 끝난 작업의 실패를 확인합니다.
+        ExecutorCompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        // 실행 중인 작업. ordered이면 제출 순서(만남 순서)의 큐로, 아니면 완료된 작업을 지우는 집합으로 사용합니다.
+        Deque<Future<R>> submitted = new ArrayDeque<>(maxConcurrency);
+        Set<Future<R>> running = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            Iterator<T> iterator = elements.sequential().iterator();
+            while (iterator.hasNext()) {
+                if (submitted.size() + running.size() == maxConcurrency) {
+                    downstream.accept(awaitNext(completionService, submitted, running));
+                }
+                T element = iterator.next();
+                if (ordered) {
+                    checkCompleted(completionService);
+                    submitted.add(completionService.submit(() -> mapper.apply(element)));
+                } else {
+                    running.add(completionService.submit(() -> mapper.apply(element)));
+                }
+            }
+            while (!submitted.isEmpty() || !running.isEmpty()) {
+                downstream.accept(awaitNext(completionService, submitted, running));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for concurrent actions", e);
+        } finally {
+            // 정상 종료면 남은 작업이 없고, 실패나 인터럽트면 아직 실행 중인 작업을 취소합니다.
+            submitted.forEach(future -> future.cancel(true));
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <R> R awaitNext(ExecutorCompletionService<R> completionService, Deque<Future<R>> submitted,
+                                   Set<Future<R>> running) throws InterruptedException {
+        if (submitted.isEmpty()) {
+            // 완료 순서: 가장 먼저 끝난 작업을 기다립니다.
+            Future<R> future = completionService.take();
+            running.remove(future);
+            return resultOf(future);
+        }
+        // 만남 순서: 가장 먼저 제출한 작업을 기다리는 동안 끝난 다른 작업의 실패도 확인합니다.
+        Future<R> head = submitted.peek();
+        while (!head.isDone()) {
+            resultOf(completionService.take());
+        }
+        return resultOf(submitted.poll());
+    }
+
+    /**
+     * ordered 모드에서 이미 끝난 작업을 완료 큐에서 비우며, 실패한 작업이 있으면 그 예외를 던집니다.
+     */
+    private static <R> void checkCompleted(ExecutorCompletionService<R> completionService) throws InterruptedException {
+        for (Future<R> future = completionService.poll(); future != null; future = completionService.poll()) {
+            resultOf(future);
+        }
+    }
+
+    /**
+     * 끝난 작업의 결과를 반환하고, 실패했으면 원래 예외를 다시 던집니다.
+     */
+    private static <R> R resultOf(Future<R> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Concurrent action failed", cause);
+        }
+    }
+
+    /**
+     * 전용 풀이면 종료합니다. 외부에서 받은 executor는 그대로 둡니다.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * ConcurrentFanOut 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        public Executor executor; // null이면 maxConcurrency개의 데몬 스레드를 가진 전용 풀을 만들고 close()에서 종료합니다.
+        public int maxConcurrency = 256;
+        public boolean ordered = true;
+
+        private Builder() {
+        }
+
+        public ConcurrentFanOut build() {
+            return new ConcurrentFanOut(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
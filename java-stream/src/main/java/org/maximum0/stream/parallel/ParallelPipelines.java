@@ -0,0 +1,301 @@
+package org.maximum0.stream.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 병렬 스트림 파이프라인을 공용 ForkJoinPool 대신 지정한 ForkJoinPool에서 실행하는 도구.
+ *
+ * parallelStream()은 ForkJoinPool 작업 스레드 안에서 시작되면 그 풀에서 분할 작업을 실행하므로,
+ * run/call로 감싼 파이프라인은 공용 풀(commonPool)을 점유하지 않습니다.
+ * 예를 들어 이메일 전송처럼 블로킹되는 파이프라인이 다른 병렬 스트림의 스레드를 빼앗지 않습니다.
+ *
+ * - 풀: pool을 지정하지 않으면 workload에 맞는 크기의 전용 풀을 만들고 close()에서 종료합니다.
+ * - 블로킹 작업: blocking(action)으로 감싸면 ForkJoinPool.managedBlock으로 실행되어, 풀이 대기 중인 스레드를 보충합니다. (최대 maxPoolSize)
+ * - 지표: 풀 크기, 활성 스레드, 대기 작업 수, 훔친 작업(steal) 수, 실행한 파이프라인 수를 getMetrics()로 조회합니다.
+ */
+public class ParallelPipelines implements AutoCloseable {
+    private final ForkJoinPool pool;
+    private final boolean ownedPool;
+    private final Workload workload;
+
+    private final LongAdder pipelines = new LongAdder();
+    private final LongAdder failedPipelines = new LongAdder();
+    private final LongAdder blockingCalls = new LongAdder();
+    private final LongAdder totalPipelineNanos = new LongAdder();
+    private final LongAccumulator peakQueuedTasks = new LongAccumulator(Math::max, 0L);
+
+    private ParallelPipelines(Builder builder) {
+        this.workload = builder.workload;
+        if (builder.pool == null) {
+            int parallelism = builder.parallelism > 0
+                    ? builder.parallelism
+                    : workload.parallelism(Runtime.getRuntime().availableProcessors(), builder.blockingCoefficient);
+            String threadNamePrefix = builder.threadNamePrefix;
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName(threadNamePrefix + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false, 0, maxPoolSize(builder, parallelism), 1, forkJoinPool -> true, 60L, TimeUnit.SECONDS);
+            this.ownedPool = true;
+        } else {
+            this.pool = builder.pool;
+            this.ownedPool = false;
+        }
+    }
+
+    private static int maxPoolSize(Builder builder, int parallelism) {
+        // 보충 스레드 한도에 도달하면(saturate = true) 더 만들지 않고 현재 스레드로 계속 진행합니다.
+        return builder.maxPoolSize > 0 ? Math.max(builder.maxPoolSize, parallelism) : parallelism + Workload.MAX_PARALLELISM;
+    }
+
+    public static Builder builder(Workload workload) {
+        return new Builder(workload);
+    }
+
+    /**
+     * 이미 있는 풀에서 파이프라인을 실행합니다. 풀은 close()에서 종료되지 않습니다.
+     */
+    public static ParallelPipelines on(ForkJoinPool pool) {
+        return builder(Workload.CPU_BOUND)
+                .with(builder -> builder.pool = pool)
+                .build();
+    }
+
+    /**
+     * 결과를 돌려주는 파이프라인을 풀에서 실행하고 끝날 때까지 기다립니다.
+     * 파이프라인에서 발생한 RuntimeException과 Error는 호출한 스레드로 전달됩니다.
+     */
+    public <R> R call(Supplier<R> pipeline) {
+        if (pool.isShutdown()) {
+            throw new IllegalStateException("ParallelPipelines is closed");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return pool.invoke(ForkJoinTask.adapt(pipeline::get));
+        } catch (RuntimeException | Error e) {
+            failedPipelines.increment();
+            throw e;
+        } finally {
+            pipelines.increment();
+            totalPipelineNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+
+    public void run(Runnable pipeline) {
+        call(() -> {
+            pipeline.run();
+            return null;
+        });
+    }
+
+    /**
+     * 블로킹 작업을 ForkJoinPool.managedBlock으로 감쌉니다.
+     * 작업 스레드가 대기하는 동안 풀이 보충 스레드를 만들어 병렬도를 유지합니다.
+     */
+    public <T> Consumer<T> blocking(Consumer<? super T> action) {
+        return element -> {
+            blockingCalls.increment();
+            peakQueuedTasks.accumulate(pool.getQueuedTaskCount());
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                    private boolean done;
+
+                    @Override
+                    public boolean block() {
+                        action.accept(element);
+                        done = true;
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return done;
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running blocking action", e);
+            }
+        };
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public PoolMetrics getMetrics() {
+        long pipelineCount = pipelines.sum();
+        return new PoolMetrics(
+                pool.getParallelism(),
+                pool.getPoolSize(),
+                pool.getActiveThreadCount(),
+                pool.getRunningThreadCount(),
+                pool.getQueuedTaskCount(),
+                pool.getQueuedSubmissionCount(),
+                pool.getStealCount(),
+                pipelineCount,
+                failedPipelines.sum(),
+                blockingCalls.sum(),
+                pipelineCount == 0 ? 0L : totalPipelineNanos.sum() / pipelineCount,
+                peakQueuedTasks.get()
+        );
+    }
+
+    /**
+     * 전용 풀이면 실행 중인 파이프라인이 끝날 때까지 기다린 뒤 종료합니다. 외부에서 받은 풀은 그대로 둡니다.
+     */
+    @Override
+    public void close() {
+        if (ownedPool) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for parallel pipelines", e);
+            }
+        }
+    }
+
+    /**
+     * 특정 시점의 ParallelPipelines 지표 스냅샷.
+     * peakQueuedTasks는 blocking 작업이 시작될 때 관찰한 대기 작업 수의 최댓값입니다.
+     */
+    public static final class PoolMetrics {
+        private final int parallelism;
+        private final int poolSize;
+        private final int activeThreads;
+        private final int runningThreads;
+        private final long queuedTasks;
+        private final int queuedSubmissions;
+        private final long stealCount;
+        private final long pipelines;
+        private final long failedPipelines;
+        private final long blockingCalls;
+        private final long averagePipelineNanos;
+        private final long peakQueuedTasks;
+
+        private PoolMetrics(int parallelism, int poolSize, int activeThreads, int runningThreads, long queuedTasks,
+                            int queuedSubmissions, long stealCount, long pipelines, long failedPipelines,
+                            long blockingCalls, long averagePipelineNanos, long peakQueuedTasks) {
+            this.parallelism = parallelism;
+            this.poolSize = poolSize;
+            this.activeThreads = activeThreads;
+            this.runningThreads = runningThreads;
+            this.queuedTasks = queuedTasks;
+            this.queuedSubmissions = queuedSubmissions;
+            this.stealCount = stealCount;
+            this.pipelines = pipelines;
+            this.failedPipelines = failedPipelines;
+            this.blockingCalls = blockingCalls;
+            this.averagePipelineNanos = averagePipelineNanos;
+            this.peakQueuedTasks = peakQueuedTasks;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getActiveThreads() {
+            return activeThreads;
+        }
+
+        public int getRunningThreads() {
+            return runningThreads;
+        }
+
+        public long getQueuedTasks() {
+            return queuedTasks;
+        }
+
+        public int getQueuedSubmissions() {
+            return queuedSubmissions;
+        }
+
+        public long getStealCount() {
+            return stealCount;
+        }
+
+        public long getPipelines() {
+            return pipelines;
+        }
+
+        public long getFailedPipelines() {
+            return failedPipelines;
+        }
+
+        public long getBlockingCalls() {
+            return blockingCalls;
+        }
+
+        public long getAveragePipelineNanos() {
+            return averagePipelineNanos;
+        }
+
+        public long getPeakQueuedTasks() {
+            return peakQueuedTasks;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolMetrics{" +
+                    "parallelism=" + parallelism +
+                    ", poolSize=" + poolSize +
+                    ", activeThreads=" + activeThreads +
+                    ", runningThreads=" + runningThreads +
+                    ", queuedTasks=" + queuedTasks +
+                    ", queuedSubmissions=" + queuedSubmissions +
+                    ", stealCount=" + stealCount +
+                    ", pipelines=" + pipelines +
+                    ", failedPipelines=" + failedPipelines +
+                    ", blockingCalls=" + blockingCalls +
+                    ", averagePipelineNanos=" + averagePipelineNanos +
+                    ", peakQueuedTasks=" + peakQueuedTasks +
+                    '}';
+        }
+    }
+
+    /**
+     * ParallelPipelines 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final Workload workload;
+        public ForkJoinPool pool; // null이면 workload에 맞는 전용 풀을 만들고 close()에서 종료합니다.
+        public int parallelism; // 0이면 workload와 코어 수로 정합니다.
+        public double blockingCoefficient = 9.0; // IO_BOUND의 대기 시간 / 계산 시간 비율 (9.0 = 90% 대기)
+        public int maxPoolSize; // blocking 작업의 보충 스레드를 포함한 최대 스레드 수. 0이면 parallelism + 256
+        public String threadNamePrefix = "parallel-pipeline";
+
+        private Builder(Workload workload) {
+            this.workload = workload;
+        }
+
+        public ParallelPipelines build() {
+            return new ParallelPipelines(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
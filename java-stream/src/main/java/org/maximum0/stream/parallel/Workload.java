@@ -0,0 +1,28 @@
+package org.maximum0.stream.parallel;
+
+/**
+ * 파이프라인의 작업 부하 유형. ParallelPipelines는 유형에 따라 스레드 풀 크기를 정합니다.
+ *
+ * - CPU_BOUND: 집계, 정렬 등 계산 위주. 코어 수만큼의 스레드가 적절합니다.
+ * - IO_BOUND: 이메일 전송 등 대기 위주. 코어 수 × (1 + 대기 시간 / 계산 시간)만큼 스레드를 둡니다.
+ */
+public enum Workload {
+    CPU_BOUND,
+    IO_BOUND;
+
+    // 풀 크기가 지나치게 커지지 않도록 제한합니다.
+    static final int MAX_PARALLELISM = 256;
+
+    /**
+     * 코어 수와 대기/계산 시간 비율(blockingCoefficient)로 적절한 병렬도를 계산합니다.
+     */
+    public int parallelism(int cores, double blockingCoefficient) {
+        if (cores < 1 || blockingCoefficient < 0) {
+            throw new IllegalArgumentException("Invalid cores/blockingCoefficient: " + cores + "/" + blockingCoefficient);
+        }
+        if (this == CPU_BOUND) {
+            return cores;
+        }
+        return (int) Math.min(MAX_PARALLELISM, Math.ceil(cores * (1 + blockingCoefficient)));
+    }
+}
@@ -0,0 +1,383 @@
+package org.maximum0.stream.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.maximum0.stream.model.User;
+
+/**
+ * 이메일 전송을 호출 스레드에서 분리하는 비동기 배치 전송기.
+ * 어떤 스트림(순차/병렬)에서든 사용자를 받아 제한된 큐에 넣고, 전용 디스패처 스레드가 템플릿별로 모아 배치로 전송합니다.
+ *
+ * - 배치: 템플릿별 버퍼가 batchSize에 도달하거나, 가장 오래된 이메일이 maxBatchDelayMillis 이상 기다리면 배치를 전송합니다.
+ * - 전송: 배치는 executor(기본: 전용 고정 크기 스레드 풀)에서 EmailTransport로 전송되며, 동시에 전송 중인 배치 수는 maxInFlightBatches로 제한합니다.
+ * - 배압(backpressure): 전송이 밀려 큐가 가득 차면 dispatch를 호출한 스레드가 대기합니다.
+ * - 지표: 처리량, 큐 깊이, 배치별 전송 시간을 getMetrics()로 조회합니다.
+ */
+public class EmailDispatcher implements AutoCloseable {
+    // 디스패처 스레드에 종료를 알리는 신호. 참조 동일성으로 비교합니다.
+    private static final EmailMessage END_OF_MESSAGES = new EmailMessage(null, 0, null);
+    // values()는 호출마다 배열을 복제하므로 한 번만 만들어 둡니다.
+    private static final EmailTemplate[] TEMPLATES = EmailTemplate.values();
+
+    private final EmailTransport transport;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int batchSize;
+    private final long maxBatchDelayNanos;
+    private final int maxInFlightBatches;
+    private final BlockingQueue<EmailMessage> queue;
+    private final Semaphore inFlightBatches;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final Thread dispatcherThread;
+    private final long startedAtNanos = System.nanoTime();
+    private boolean closed;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder totalBatchLatencyNanos = new LongAdder();
+    private final LongAccumulator maxBatchLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    private EmailDispatcher(Builder builder) {
+        if (builder.batchSize < 1 || builder.queueCapacity < 1 || builder.maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("batchSize, queueCapacity and maxInFlightBatches must be positive");
+        }
+        // 0 이하이면 디스패처 스레드가 기다리지 않고 poll을 반복합니다.
+        if (builder.maxBatchDelayMillis < 1) {
+            throw new IllegalArgumentException("maxBatchDelayMillis must be positive: " + builder.maxBatchDelayMillis);
+        }
+        this.transport = builder.transport;
+        if (builder.executor == null) {
+            this.ownedExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "email-sender");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = builder.executor;
+        }
+        this.batchSize = builder.batchSize;
+        this.maxBatchDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxBatchDelayMillis);
+        this.maxInFlightBatches = builder.maxInFlightBatches;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.inFlightBatches = new Semaphore(builder.maxInFlightBatches);
+
+        this.dispatcherThread = new Thread(this::runDispatcher, "email-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    public static Builder builder(EmailTransport transport) {
+        return new Builder(transport);
+    }
+
+    /**
+     * 사용자에게 보낼 이메일을 큐에 넣습니다. 이메일 주소가 없는 사용자는 건너뛰며, 큐가 가득 차 있으면 대기합니다.
+     *
+     * @return 큐에 넣었으면 true, 이메일 주소가 없어 건너뛰었으면 false
+     */
+    public boolean dispatch(EmailTemplate template, User user) {
+        String emailAddress = user.getEmailAddress();
+        if (emailAddress == null) {
+            skipped.increment();
+            return false;
+        }
+
+        // 읽기 잠금은 여러 생산자가 동시에 잡을 수 있고, close()의 쓰기 잠금과만 배타적입니다.
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("EmailDispatcher is closed");
+            }
+            queue.put(new EmailMessage(template, user.getId(), emailAddress));
+            accepted.increment();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching " + template, e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스트림의 모든 사용자에게 보낼 이메일을 큐에 넣습니다. 병렬 스트림도 사용할 수 있습니다.
+     *
+     * @return 큐에 넣은 이메일 수
+     */
+    public long dispatchAll(EmailTemplate template, Stream<User> users) {
+        LongAdder dispatched = new LongAdder();
+        users.forEach(user -> {
+            if (dispatch(template, user)) {
+                dispatched.increment();
+            }
+        });
+        return dispatched.sum();
+    }
+
+    public DispatchMetrics getMetrics() {
+        long batchCount = batches.sum();
+        long sentCount = sent.sum();
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startedAtNanos);
+        return new DispatchMetrics(
+                queue.size(),
+                maxInFlightBatches - inFlightBatches.availablePermits(),
+                accepted.sum(),
+                skipped.sum(),
+                sentCount,
+                failed.sum(),
+                batchCount,
+                failedBatches.sum(),
+                batchCount == 0 ? 0L : totalBatchLatencyNanos.sum() / batchCount,
+                maxBatchLatencyNanos.get(),
+                sentCount * 1_000_000_000.0 / elapsedNanos
+        );
+    }
+
+    /**
+     * 새 이메일을 받지 않고, 큐에 남은 이메일을 모두 배치로 전송한 뒤 전송이 끝날 때까지 기다립니다.
+     */
+    @Override
+    public void close() {
+        try {
+            closeLock.writeLock().lock();
+            try {
+                if (!closed) {
+                    // 종료 신호를 큐에 넣은 뒤에 닫힌 것으로 표시하므로, 대기 중 인터럽트되면 다시 close()할 수 있습니다.
+                    queue.put(END_OF_MESSAGES);
+                    closed = true;
+                }
+            } finally {
+                closeLock.writeLock().unlock();
+            }
+            dispatcherThread.join();
+            inFlightBatches.acquire(maxInFlightBatches);
+            inFlightBatches.release(maxInFlightBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while closing EmailDispatcher", e);
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private void runDispatcher() {
+        Map<EmailTemplate, List<EmailMessage>> buffers = new EnumMap<>(EmailTemplate.class);
+        Map<EmailTemplate, Long> firstBufferedAt = new EnumMap<>(EmailTemplate.class);
+        long timeoutNanos = maxBatchDelayNanos;
+        try {
+            while (true) {
+                EmailMessage message = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+                if (message == END_OF_MESSAGES) {
+                    break;
+                }
+                if (message != null) {
+                    EmailTemplate template = message.getTemplate();
+                    List<EmailMessage> buffer = buffers.computeIfAbsent(template, key -> new ArrayList<>(batchSize));
+                    if (buffer.isEmpty()) {
+                        firstBufferedAt.put(template, System.nanoTime());
+                    }
+                    buffer.add(message);
+                    if (buffer.size() >= batchSize) {
+                        submitBatch(template, buffers.remove(template));
+                    }
+                }
+                // 배치 크기를 채우지 못해도 오래 기다린 이메일은 지연 한도 안에서 전송하고,
+                // 다음에는 가장 먼저 한도에 닿는 버퍼까지 남은 시간만큼만 기다립니다. (버퍼가 비었으면 지연 한도만큼)
+                long now = System.nanoTime();
+                timeoutNanos = maxBatchDelayNanos;
+                for (EmailTemplate template : TEMPLATES) {
+                    List<EmailMessage> buffer = buffers.get(template);
+                    if (buffer == null || buffer.isEmpty()) {
+                        continue;
+                    }
+                    long waitedNanos = now - firstBufferedAt.get(template);
+                    if (waitedNanos >= maxBatchDelayNanos) {
+                        submitBatch(template, buffers.remove(template));
+                    } else {
+                        timeoutNanos = Math.min(timeoutNanos, maxBatchDelayNanos - waitedNanos);
+                    }
+                }
+            }
+            for (Map.Entry<EmailTemplate, List<EmailMessage>> buffer : buffers.entrySet()) {
+                if (!buffer.getValue().isEmpty()) {
+                    submitBatch(buffer.getKey(), buffer.getValue());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submitBatch(EmailTemplate template, List<EmailMessage> batch) throws InterruptedException {
+        inFlightBatches.acquire();
+        try {
+            executor.execute(() -> sendBatch(template, batch));
+        } catch (Throwable e) {
+            // 실행기가 작업을 거부하거나 Error를 던지면 배치를 실패로 기록합니다.
+            // 디스패처 스레드가 죽으면 큐가 비워지지 않아 dispatch 호출자가 영원히 대기하므로 모두 잡습니다.
+            failed.add(batch.size());
+            failedBatches.increment();
+            inFlightBatches.release();
+        }
+    }
+
+    private void sendBatch(EmailTemplate template, List<EmailMessage> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            transport.send(template, batch);
+            sent.add(batch.size());
+        } catch (Throwable e) {
+            // 호출 스레드에서 실행하는 실행기에서도 예외가 submitBatch로 새어 나가 허가를 두 번 반납하지 않도록 여기서 모두 기록합니다.
+            failed.add(batch.size());
+            failedBatches.increment();
+        } finally {
+            long latency = System.nanoTime() - startedAt;
+            batches.increment();
+            totalBatchLatencyNanos.add(latency);
+            maxBatchLatencyNanos.accumulate(latency);
+            inFlightBatches.release();
+        }
+    }
+
+    /**
+     * 특정 시점의 EmailDispatcher 지표 스냅샷.
+     */
+    public static final class DispatchMetrics {
+        private final int queueDepth;
+        private final int inFlightBatches;
+        private final long accepted;
+        private final long skipped;
+        private final long sent;
+        private final long failed;
+        private final long batches;
+        private final long failedBatches;
+        private final long averageBatchLatencyNanos;
+        private final long maxBatchLatencyNanos;
+        private final double throughputPerSecond;
+
+        private DispatchMetrics(int queueDepth, int inFlightBatches, long accepted, long skipped, long sent, long failed,
+                                long batches, long failedBatches, long averageBatchLatencyNanos, long maxBatchLatencyNanos,
+                                double throughputPerSecond) {
+            this.queueDepth = queueDepth;
+            this.inFlightBatches = inFlightBatches;
+            this.accepted = accepted;
+            this.skipped = skipped;
+            this.sent = sent;
+            this.failed = failed;
+            this.batches = batches;
+            this.failedBatches = failedBatches;
+            this.averageBatchLatencyNanos = averageBatchLatencyNanos;
+            this.maxBatchLatencyNanos = maxBatchLatencyNanos;
+            this.throughputPerSecond = throughputPerSecond;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getInFlightBatches() {
+            return inFlightBatches;
+        }
+
+        public long getAccepted() {
+            return accepted;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getSent() {
+            return sent;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public long getFailedBatches() {
+            return failedBatches;
+        }
+
+        public long getAverageBatchLatencyNanos() {
+            return averageBatchLatencyNanos;
+        }
+
+        public long getMaxBatchLatencyNanos() {
+            return maxBatchLatencyNanos;
+        }
+
+        public double getThroughputPerSecond() {
+            return throughputPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchMetrics{" +
+                    "queueDepth=" + queueDepth +
+                    ", inFlightBatches=" + inFlightBatches +
+                    ", accepted=" + accepted +
+                    ", skipped=" + skipped +
+                    ", sent=" + sent +
+                    ", failed=" + failed +
+                    ", batches=" + batches +
+                    ", failedBatches=" + failedBatches +
+                    ", averageBatchLatencyNanos=" + averageBatchLatencyNanos +
+                    ", maxBatchLatencyNanos=" + maxBatchLatencyNanos +
+                    ", throughputPerSecond=" + String.format("%.1f", throughputPerSecond) +
+                    '}';
+        }
+    }
+
+    /**
+     * EmailDispatcher 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final EmailTransport transport;
+        public Executor executor; // null이면 전용 스레드 풀을 만들고 close()에서 종료합니다.
+        public int batchSize = 100;
+        public long maxBatchDelayMillis = 50L;
+        public int queueCapacity = 10_000;
+        public int maxInFlightBatches = 64;
+
+        private Builder(EmailTransport transport) {
+            this.transport = transport;
+        }
+
+        public EmailDispatcher build() {
+            return new EmailDispatcher(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.maximum0.stream.service;
+
+/**
+ * 전송할 이메일 한 통. 수신자 정보만 담고, 본문은 전송 계층(EmailTransport)이 템플릿으로 만듭니다.
+ */
+public final class EmailMessage {
+    private final EmailTemplate template;
+    private final int userId;
+    private final String emailAddress;
+
+    public EmailMessage(EmailTemplate template, int userId, String emailAddress) {
+        this.template = template;
+        this.userId = userId;
+        this.emailAddress = emailAddress;
+    }
+
+    public EmailTemplate getTemplate() {
+        return template;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    @Override
+    public String toString() {
+        return "EmailMessage{" +
+                "template=" + template +
+                ", userId=" + userId +
+                ", emailAddress='" + emailAddress + '\'' +
+                '}';
+    }
+}
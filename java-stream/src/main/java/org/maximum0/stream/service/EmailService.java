@@ -1,20 +1,42 @@
 package org.maximum0.stream.service;
 
 
+import java.util.Collections;
 import org.maximum0.stream.model.User;
 
+/**
+ * 사용자에게 이메일을 보내는 서비스. 실제 전송은 EmailTransport에 위임합니다.
+ * 기본 생성자는 전송 내용을 콘솔에 출력하는 전송 계층을 사용합니다.
+ */
 public class EmailService {
+    private static final EmailTransport CONSOLE_TRANSPORT = (template, batch) ->
+            batch.forEach(message -> System.out.println("Sending '" + template.getTitle() + "' email to " + message.getEmailAddress()));
+
+    private final EmailTransport transport;
+
+    public EmailService() {
+        this(CONSOLE_TRANSPORT);
+    }
+
+    public EmailService(EmailTransport transport) {
+        this.transport = transport;
+    }
+
     public void sendPlayWithFriendsEmail(User user) {
-        user.getEmailAddressOptional().ifPresent(email -> System.out.println("Sending 'Play With Friends' email to " + email));
+        send(EmailTemplate.PLAY_WITH_FRIENDS, user);
     }
 
     public void sendMakeWithFriendsEmail(User user) {
-        user.getEmailAddressOptional().ifPresent(email -> System.out.println("Sending 'Make More Friends' email to " + email));
+        send(EmailTemplate.MAKE_MORE_FRIENDS, user);
     }
 
     public void sendVerifyYourEmailEmail(User user) {
-        user.getEmailAddressOptional().ifPresent(email -> System.out.println("Sending 'Verify Your Email' email to " + email));
+        send(EmailTemplate.VERIFY_YOUR_EMAIL, user);
     }
 
+    private void send(EmailTemplate template, User user) {
+        user.getEmailAddressOptional().ifPresent(email ->
+                transport.send(template, Collections.singletonList(new EmailMessage(template, user.getId(), email))));
+    }
 
 }
@@ -0,0 +1,20 @@
+package org.maximum0.stream.service;
+
+/**
+ * EmailService가 보내는 이메일 종류. 같은 템플릿의 이메일끼리 하나의 배치로 묶여 전송됩니다.
+ */
+public enum EmailTemplate {
+    VERIFY_YOUR_EMAIL("Verify Your Email"),
+    MAKE_MORE_FRIENDS("Make More Friends"),
+    PLAY_WITH_FRIENDS("Play With Friends");
+
+    private final String title;
+
+    EmailTemplate(String title) {
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
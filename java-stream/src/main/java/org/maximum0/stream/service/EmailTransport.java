@@ -0,0 +1,12 @@
+package org.maximum0.stream.service;
+
+import java.util.List;
+
+/**
+ * 이메일 배치를 실제로 전송하는 전송 계층. (SMTP 릴레이, 외부 API, 테스트용 메모리 구현 등)
+ * 하나의 배치에는 같은 템플릿의 이메일만 담기며, 구현체는 여러 스레드에서 동시에 호출될 수 있어야 합니다.
+ */
+@FunctionalInterface
+public interface EmailTransport {
+    void send(EmailTemplate template, List<EmailMessage> batch);
+}
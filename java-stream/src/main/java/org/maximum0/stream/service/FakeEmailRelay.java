@@ -0,0 +1,132 @@
+package org.maximum0.stream.service;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 외부 메일 릴레이를 흉내 내는 EmailTransport. 로컬 실행, 데모, 벤치마크에서 사용합니다.
+ *
+ * - 지연: 배치마다 minLatencyMillis ~ maxLatencyMillis 사이의 임의 시간만큼 대기합니다.
+ * - 일시적 장애: failureRate 확률로 배치 전송이 실패합니다.
+ * - 제공자 한도: 1초 구간 안에서 maxMessagesPerSecond를 넘는 배치를 거부합니다. (0이면 한도 없음)
+ *
+ * 난수는 seed로부터 결정되므로, 같은 순서로 호출하면 같은 장애가 재현됩니다.
+ */
+public class FakeEmailRelay implements EmailTransport {
+    private final long minLatencyMillis;
+    private final long maxLatencyMillis;
+    private final double failureRate;
+    private final long maxMessagesPerSecond;
+    private final SplittableRandom random;
+
+    private final Object windowLock = new Object();
+    private long windowStartNanos = System.nanoTime();
+    private long messagesInWindow;
+
+    private final LongAdder delivered = new LongAdder();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong rejectedBatches = new AtomicLong();
+
+    private FakeEmailRelay(Builder builder) {
+        if (builder.minLatencyMillis < 0 || builder.maxLatencyMillis < builder.minLatencyMillis) {
+            throw new IllegalArgumentException("Invalid latency range: " + builder.minLatencyMillis + ".." + builder.maxLatencyMillis);
+        }
+        this.minLatencyMillis = builder.minLatencyMillis;
+        this.maxLatencyMillis = builder.maxLatencyMillis;
+        this.failureRate = builder.failureRate;
+        this.maxMessagesPerSecond = builder.maxMessagesPerSecond;
+        this.random = new SplittableRandom(builder.seed);
+    }
+
+    public static Builder builder(long seed) {
+        return new Builder(seed);
+    }
+
+    @Override
+    public void send(EmailTemplate template, List<EmailMessage> batch) {
+        long latencyMillis;
+        boolean fail;
+        synchronized (random) {
+            latencyMillis = minLatencyMillis == maxLatencyMillis
+                    ? minLatencyMillis
+                    : random.nextLong(minLatencyMillis, maxLatencyMillis + 1);
+            fail = random.nextDouble() < failureRate;
+        }
+        if (latencyMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while sending " + template, e);
+            }
+        }
+        if (fail) {
+            failedBatches.incrementAndGet();
+            throw new IllegalStateException("Relay temporarily unavailable for " + template);
+        }
+        if (!admit(batch.size())) {
+            rejectedBatches.incrementAndGet();
+            throw new IllegalStateException("Relay rate limit exceeded: " + maxMessagesPerSecond + " messages/s");
+        }
+        delivered.add(batch.size());
+    }
+
+    private boolean admit(int messages) {
+        if (maxMessagesPerSecond <= 0) {
+            return true;
+        }
+        synchronized (windowLock) {
+            long now = System.nanoTime();
+            if (now - windowStartNanos >= TimeUnit.SECONDS.toNanos(1)) {
+                windowStartNanos = now;
+                messagesInWindow = 0;
+            }
+            if (messagesInWindow + messages > maxMessagesPerSecond) {
+                return false;
+            }
+            messagesInWindow += messages;
+            return true;
+        }
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    public long getRejectedBatches() {
+        return rejectedBatches.get();
+    }
+
+    /**
+     * FakeEmailRelay 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final long seed;
+        public long minLatencyMillis = 0L;
+        public long maxLatencyMillis = 0L;
+        public double failureRate = 0.0;
+        public long maxMessagesPerSecond = 0L;
+
+        private Builder(long seed) {
+            this.seed = seed;
+        }
+
+        public FakeEmailRelay build() {
+            return new FakeEmailRelay(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.maximum0.stream.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전송한 이메일을 메모리에 보관하는 EmailTransport. 로컬 실행, 데모, 벤치마크에서 SMTP 릴레이 대신 사용합니다.
+ * latencyPerBatchMillis를 지정하면 배치마다 네트워크 왕복 시간을 흉내 내어 대기합니다.
+ */
+public class InMemoryEmailTransport implements EmailTransport {
+    private final long latencyPerBatchMillis;
+    private final Queue<EmailMessage> sentMessages = new ConcurrentLinkedQueue<>();
+    private final LongAdder batchCount = new LongAdder();
+
+    public InMemoryEmailTransport() {
+        this(0L);
+    }
+
+    public InMemoryEmailTransport(long latencyPerBatchMillis) {
+        this.latencyPerBatchMillis = latencyPerBatchMillis;
+    }
+
+    @Override
+    public void send(EmailTemplate template, List<EmailMessage> batch) {
+        if (latencyPerBatchMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyPerBatchMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while sending " + template, e);
+            }
+        }
+        sentMessages.addAll(batch);
+        batchCount.increment();
+    }
+
+    public List<EmailMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+}
@@ -0,0 +1,136 @@
+package org.maximum0.stream.service;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 다른 EmailTransport를 감싸 속도 제한, 재시도, 동시 요청 수 제한을 더하는 데코레이터.
+ *
+ * - 동시 요청 제한: 동시에 전송 중인 배치가 maxInFlight에 도달하면 send를 호출한 스레드가 대기합니다.
+ *   큐에 쌓아 두지 않고 호출자를 멈추므로, 상위 스트림이나 EmailDispatcher까지 배압이 전달됩니다.
+ * - 속도 제한: 전송을 시도할 때마다 배치의 이메일 수만큼 rateLimiter의 토큰을 소비합니다.
+ * - 재시도: retryable이 허용하는 예외는 지수 백오프(initialBackoffMillis * backoffMultiplier^n, 최대 maxBackoffMillis)에
+ *   임의 지연(jitter)을 더해 maxAttempts회까지 다시 시도합니다.
+ */
+public class ResilientEmailTransport implements EmailTransport {
+    private final EmailTransport delegate;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore inFlight;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final double backoffMultiplier;
+    private final long maxBackoffNanos;
+    private final Predicate<RuntimeException> retryable;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+
+    private ResilientEmailTransport(Builder builder) {
+        if (builder.maxInFlight < 1 || builder.maxAttempts < 1) {
+            throw new IllegalArgumentException("maxInFlight and maxAttempts must be positive");
+        }
+        this.delegate = builder.delegate;
+        this.rateLimiter = builder.rateLimiter;
+        this.inFlight = new Semaphore(builder.maxInFlight, true);
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(builder.initialBackoffMillis);
+        this.backoffMultiplier = builder.backoffMultiplier;
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxBackoffMillis);
+        this.retryable = builder.retryable;
+    }
+
+    public static Builder builder(EmailTransport delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public void send(EmailTemplate template, List<EmailMessage> batch) {
+        try {
+            inFlight.acquire();
+            try {
+                sendWithRetry(template, batch);
+            } finally {
+                inFlight.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + template, e);
+        }
+    }
+
+    private void sendWithRetry(EmailTemplate template, List<EmailMessage> batch) throws InterruptedException {
+        long backoffNanos = initialBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            if (rateLimiter != null) {
+                throttledNanos.add(rateLimiter.acquire(batch.size()));
+            }
+            attempts.increment();
+            try {
+                delegate.send(template, batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !retryable.test(e)) {
+                    failures.increment();
+                    throw new IllegalStateException(
+                            "Failed to send " + batch.size() + " '" + template.getTitle() + "' emails after " + attempt + " attempts", e);
+                }
+            }
+            retries.increment();
+            // 여러 전송이 같은 시점에 재시도하지 않도록 백오프의 절반은 임의로 흩뜨립니다.
+            long halfBackoff = backoffNanos / 2;
+            TimeUnit.NANOSECONDS.sleep(halfBackoff + ThreadLocalRandom.current().nextLong(halfBackoff + 1));
+            backoffNanos = Math.min(maxBackoffNanos, (long) (backoffNanos * backoffMultiplier));
+        }
+    }
+
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getThrottledMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos.sum());
+    }
+
+    /**
+     * ResilientEmailTransport 객체를 생성하는 내부 Builder 클래스.
+     * 람다식(Consumer)을 활용하여 선택적 필드를 일괄 설정합니다.
+     */
+    public static class Builder {
+        private final EmailTransport delegate;
+        public TokenBucketRateLimiter rateLimiter; // null이면 속도를 제한하지 않습니다.
+        public int maxInFlight = 16;
+        public int maxAttempts = 5;
+        public long initialBackoffMillis = 10L;
+        public double backoffMultiplier = 2.0;
+        public long maxBackoffMillis = 1_000L;
+        public Predicate<RuntimeException> retryable = e -> true;
+
+        private Builder(EmailTransport delegate) {
+            this.delegate = delegate;
+        }
+
+        public ResilientEmailTransport build() {
+            return new ResilientEmailTransport(this);
+        }
+
+        public Builder with(Consumer<Builder> consumer) {
+            consumer.accept(this);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.maximum0.stream.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식의 속도 제한기.
+ * 초당 permitsPerSecond개의 토큰이 채워지고, 최대 burstCapacity개까지 쌓아 두었다가 순간적인 요청 폭주를 허용합니다.
+ *
+ * 토큰이 부족하면 잔고를 음수(빚)로 예약하고 빚이 갚아질 때까지 잠금 밖에서 대기하므로, 대기 중인 스레드가 다른 스레드의 예약을 막지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+    private final double permitsPerNano;
+    private final double burstCapacity;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burstCapacity) {
+        if (permitsPerSecond <= 0 || burstCapacity < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burstCapacity must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burstCapacity = burstCapacity;
+        this.availablePermits = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * permits개의 토큰을 얻을 때까지 대기합니다.
+     *
+     * @return 대기한 시간(나노초)
+     */
+    public long acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 기다리지 않고 즉시 토큰을 얻을 수 있을 때만 permits개의 토큰을 가져갑니다.
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        refill(System.nanoTime());
+        if (availablePermits < permits) {
+            return false;
+        }
+        availablePermits -= permits;
+        return true;
+    }
+
+    private synchronized long reserve(int permits) {
+        refill(System.nanoTime());
+        availablePermits -= permits;
+        return availablePermits >= 0 ? 0L : (long) Math.ceil(-availablePermits / permitsPerNano);
+    }
+
+    private void refill(long now) {
+        availablePermits = Math.min(burstCapacity, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,126 @@
+package org.maximum0.stream.spliterator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.OrderLine;
+
+/**
+ * 주문 목록의 모든 주문 항목(OrderLine)을 평탄화하여 순회하는 Spliterator.
+ *
+ * orders.stream().map(Order::getOrderLines).flatMap(List::stream)은 주문 단위로만 분할되므로,
+ * 항목이 아주 많은 주문 몇 개가 있으면 병렬 스트림에서도 그 주문들이 각각 한 스레드에서 처리됩니다.
+ * 이 Spliterator는 주문별 누적 항목 수(prefix sum)로 평탄화된 항목 위치 [origin, fence)를 표현하고,
+ * 위치의 절반에서 분할하므로 한 주문의 항목도 여러 스레드에 나뉘어 처리됩니다.
+ *
+ * - 누적 항목 수는 생성 시 한 번 계산하므로, 스트림을 만든 뒤 주문 항목 목록을 바꾸면 안 됩니다.
+ * - 크기를 정확히 알므로 SIZED | SUBSIZED이며, 만남 순서는 flatMap과 같습니다.
+ */
+public class OrderLineSpliterator implements Spliterator<OrderLine> {
+    private static final long MIN_SPLIT_SIZE = 1024;
+
+    private final List<Order> orders;
+    // cumulativeLines[i] = 0 ~ i-1번째 주문의 항목 수 합계. 길이는 orders.size() + 1
+    private final long[] cumulativeLines;
+    private long origin;
+    private final long fence;
+
+    private OrderLineSpliterator(List<Order> orders, long[] cumulativeLines, long origin, long fence) {
+        this.orders = orders;
+        this.cumulativeLines = cumulativeLines;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * 주문 목록 전체의 주문 항목을 순회하는 Spliterator를 만듭니다. 항목 목록이 null인 주문은 항목이 없는 것으로 봅니다.
+     */
+    public static OrderLineSpliterator of(List<Order> orders) {
+        long[] cumulativeLines = new long[orders.size() + 1];
+        for (int i = 0; i < orders.size(); i++) {
+            List<OrderLine> orderLines = orders.get(i).getOrderLines();
+            cumulativeLines[i + 1] = cumulativeLines[i] + (orderLines == null ? 0 : orderLines.size());
+        }
+        return new OrderLineSpliterator(orders, cumulativeLines, 0, cumulativeLines[orders.size()]);
+    }
+
+    /**
+     * orders.stream().map(Order::getOrderLines).flatMap(List::stream)과 같은 항목을 내는 스트림.
+     */
+    public static Stream<OrderLine> stream(List<Order> orders, boolean parallel) {
+        return StreamSupport.stream(of(orders), parallel);
+    }
+
+    /**
+     * 평탄화된 위치 position의 항목을 가진 주문 번호. (cumulativeLines[i] <= position < cumulativeLines[i + 1])
+     */
+    private int orderIndexOf(long position) {
+        int index = Arrays.binarySearch(cumulativeLines, position);
+        if (index < 0) {
+            return -index - 2;
+        }
+        // 항목이 없는 주문은 누적값이 같으므로, 같은 값 중 마지막(= 항목이 있는 주문의 시작)으로 이동합니다.
+        while (index + 1 < cumulativeLines.length && cumulativeLines[index + 1] == position) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super OrderLine> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        int orderIndex = orderIndexOf(origin);
+        action.accept(orders.get(orderIndex).getOrderLines().get((int) (origin - cumulativeLines[orderIndex])));
+        origin++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super OrderLine> action) {
+        long position = origin;
+        origin = fence;
+        if (position >= fence) {
+            return;
+        }
+        // 시작 주문만 이진 탐색으로 찾고, 이후에는 주문 단위로 항목 구간을 잘라 순회합니다.
+        for (int orderIndex = orderIndexOf(position); position < fence; orderIndex++) {
+            long orderStart = cumulativeLines[orderIndex];
+            long orderEnd = cumulativeLines[orderIndex + 1];
+            if (orderEnd == orderStart) {
+                continue;
+            }
+            int from = (int) (position - orderStart);
+            int to = (int) (Math.min(orderEnd, fence) - orderStart);
+            orders.get(orderIndex).getOrderLines().subList(from, to).forEach(action);
+            position = orderStart + to;
+        }
+    }
+
+    @Override
+    public Spliterator<OrderLine> trySplit() {
+        long size = fence - origin;
+        if (size < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long middle = origin + size / 2;
+        Spliterator<OrderLine> prefix = new OrderLineSpliterator(orders, cumulativeLines, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,143 @@
+package org.maximum0.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Money의 반올림과 오버플로 처리를 BigDecimal 계산 결과와 비교합니다.
+ */
+class MoneyTest {
+    private static final long[] EDGE_VALUES = {
+            0, 1, -1, 2, -2, 5, -5, 15, -15, 25, -25, 99, -99, 100, -100, 101, -101,
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1
+    };
+
+    private static long expectedDivide(long dividend, long divisor, RoundingMode rounding) {
+        return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, rounding).longValueExact();
+    }
+
+    private static void assertDivideMatches(long dividend, long divisor) {
+        for (RoundingMode rounding : RoundingMode.values()) {
+            String message = dividend + " / " + divisor + " " + rounding;
+            if (rounding == RoundingMode.UNNECESSARY && dividend % divisor != 0) {
+                assertThrows(ArithmeticException.class, () -> Money.divide(dividend, divisor, rounding), message);
+            } else {
+                assertEquals(expectedDivide(dividend, divisor, rounding), Money.divide(dividend, divisor, rounding), message);
+            }
+        }
+    }
+
+    @Test
+    void divideMatchesBigDecimalForAllRoundingModes() {
+        long[] divisors = {1, 2, 3, 4, 10, 100, 1_000_000_007L, Long.MAX_VALUE};
+        for (long dividend : EDGE_VALUES) {
+            for (long divisor : divisors) {
+                assertDivideMatches(dividend, divisor);
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < 20_000; i++) {
+            long dividend = i % 2 == 0 ? random.nextLong() : random.nextLong(-10_000, 10_000);
+            long divisor = i % 3 == 0 ? 1 + random.nextLong(Long.MAX_VALUE - 1) : 1 + random.nextLong(1_000);
+            assertDivideMatches(dividend, divisor);
+        }
+    }
+
+    @Test
+    void multiplyByRatioMatchesBigDecimalIncludingOverflowFallback() {
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < 20_000; i++) {
+            // 절반은 중간 곱이 long 범위를 넘어 BigDecimal 경로로 계산됩니다.
+            long minorUnits = i % 2 == 0 ? random.nextLong(-1_000_000_000L, 1_000_000_000L) : random.nextLong();
+            long numerator = random.nextLong(-1_000, 1_000);
+            long denominator = 1 + random.nextLong(1_000);
+            RoundingMode rounding = RoundingMode.values()[random.nextInt(RoundingMode.UNNECESSARY.ordinal())];
+
+            BigDecimal exact = new BigDecimal(BigInteger.valueOf(minorUnits).multiply(BigInteger.valueOf(numerator)))
+                    .divide(BigDecimal.valueOf(denominator), 0, rounding);
+            Money money = Money.ofMinor(minorUnits);
+            String message = money + " * " + numerator + " / " + denominator + " " + rounding;
+            if (exact.unscaledValue().bitLength() < Long.SIZE) {
+                assertEquals(exact.longValueExact(), money.multiply(numerator, denominator, rounding).getMinorUnits(), message);
+            } else {
+                assertThrows(ArithmeticException.class, () -> money.multiply(numerator, denominator, rounding), message);
+            }
+        }
+    }
+
+    @Test
+    void multiplyByRatioRejectsNonPositiveDenominator() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1).multiply(1, 0, RoundingMode.HALF_EVEN));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1).multiply(1, -3, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    void multiplyByBigDecimalMatchesBigDecimal() {
+        List<BigDecimal> factors = List.of(
+                new BigDecimal("0.1"), new BigDecimal("1.075"), new BigDecimal("-2.5"), new BigDecimal("1E+3"),
+                new BigDecimal("0.3333333333333333333333"), // 스케일이 커서 BigDecimal 경로로 계산됩니다.
+                new BigDecimal("123456789012345678901.5")); // 정수부가 long 범위를 넘어 BigDecimal 경로로 계산됩니다.
+        long[] amounts = {0, 1, -1, 5, 15, 25, 12_345, -98_765, 1_000_000_007L};
+        for (BigDecimal factor : factors) {
+            for (long minorUnits : amounts) {
+                Money money = Money.ofMinor(minorUnits);
+                for (RoundingMode rounding : RoundingMode.values()) {
+                    String message = money + " * " + factor + " " + rounding;
+                    BigDecimal product = money.toBigDecimal().multiply(factor);
+                    if (rounding == RoundingMode.UNNECESSARY && product.stripTrailingZeros().scale() > Money.SCALE) {
+                        assertThrows(ArithmeticException.class, () -> money.multiply(factor, rounding), message);
+                        continue;
+                    }
+                    BigDecimal expected = product.setScale(Money.SCALE, rounding);
+                    if (expected.unscaledValue().bitLength() < Long.SIZE) {
+                        assertEquals(expected, money.multiply(factor, rounding).toBigDecimal(), message);
+                    } else {
+                        assertThrows(ArithmeticException.class, () -> money.multiply(factor, rounding), message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void ofBigDecimalRoundsToScaleAndRejectsOverflow() {
+        assertEquals(Money.ofMinor(1_234), Money.of(new BigDecimal("12.345")));
+        assertEquals(Money.ofMinor(1_235), Money.of(new BigDecimal("12.345"), RoundingMode.HALF_UP));
+        assertEquals(Money.ofMinor(-1_235), Money.of(new BigDecimal("-12.341"), RoundingMode.FLOOR));
+        assertEquals(Money.ofMinor(Long.MAX_VALUE), Money.of(BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE)));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("92233720368547758.08")));
+        assertThrows(ArithmeticException.class, () -> Money.of(Long.MAX_VALUE / 10));
+    }
+
+    @Test
+    void arithmeticThrowsOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money min = Money.ofMinor(Long.MIN_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> min.minus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, min::negate);
+        assertThrows(ArithmeticException.class, () -> max.multiply(2));
+    }
+
+    @Test
+    void sumAndSummingMatchPlusAndThrowOnOverflow() {
+        List<Money> amounts = LongStream.rangeClosed(-500, 1_000).mapToObj(Money::ofMinor).toList();
+        Money expected = amounts.stream().reduce(Money.ZERO, Money::plus);
+        assertEquals(expected, Money.sum(amounts, Function.identity()));
+        assertEquals(expected, amounts.parallelStream().collect(Money.summing(Function.identity())));
+
+        List<Money> overflowing = List.of(Money.ofMinor(Long.MAX_VALUE), Money.ofMinor(1));
+        assertThrows(ArithmeticException.class, () -> Money.sum(overflowing, Function.identity()));
+        assertThrows(ArithmeticException.class, () -> overflowing.stream().collect(Money.summing(Function.identity())));
+    }
+}
@@ -0,0 +1,149 @@
+package org.maximum0.stream.graph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.maximum0.common.FriendSet;
+import org.maximum0.stream.generator.DatasetGenerator;
+import org.maximum0.stream.generator.DatasetSpec;
+import org.maximum0.stream.model.User;
+
+/**
+ * FriendGraph의 질의 결과를 HashMap/TreeSet으로 만든 단순 모델과 비교합니다. (사용자 100,000명)
+ */
+class FriendGraphTest {
+    private static final int USER_COUNT = 100_000;
+
+    private static List<User> users;
+    private static FriendGraph friendGraph;
+    private static Map<Integer, TreeSet<Integer>> model;
+
+    @BeforeAll
+    static void setUp() {
+        DatasetSpec spec = DatasetSpec.builder(42L)
+                .with(builder -> {
+                    builder.userCount = USER_COUNT;
+                    builder.maxFriendsPerUser = 20;
+                })
+                .build();
+        users = new DatasetGenerator(spec).users().collect(Collectors.toList());
+        friendGraph = FriendGraph.from(users);
+        model = undirectedModel(users);
+    }
+
+    private static Map<Integer, TreeSet<Integer>> undirectedModel(List<User> users) {
+        Map<Integer, TreeSet<Integer>> adjacency = new HashMap<>();
+        for (User user : users) {
+            adjacency.computeIfAbsent(user.getId(), id -> new TreeSet<>());
+            user.getFriends().forEach(friendId -> {
+                adjacency.computeIfAbsent(friendId, id -> new TreeSet<>());
+                if (friendId != user.getId()) {
+                    adjacency.get(user.getId()).add(friendId);
+                    adjacency.get(friendId).add(user.getId());
+                }
+            });
+        }
+        return adjacency;
+    }
+
+    private static TreeSet<Integer> friendsInModel(int userId) {
+        return model.getOrDefault(userId, new TreeSet<>());
+    }
+
+    private static int mutualFriendsInModel(int userIdA, int userIdB) {
+        TreeSet<Integer> mutual = new TreeSet<>(friendsInModel(userIdA));
+        mutual.retainAll(friendsInModel(userIdB));
+        return mutual.size();
+    }
+
+    private static List<FriendSuggestion> recommendInModel(int userId, int k) {
+        TreeSet<Integer> friends = friendsInModel(userId);
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int friendId : friends) {
+            for (int candidate : friendsInModel(friendId)) {
+                if (candidate != userId && !friends.contains(candidate)) {
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new FriendSuggestion(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(FriendSuggestion::getMutualFriendCount).reversed()
+                        .thenComparingInt(FriendSuggestion::getUserId))
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void friendsMatchModel() {
+        assertEquals(model.size(), friendGraph.vertexCount());
+        long edges = 0;
+        for (Map.Entry<Integer, TreeSet<Integer>> entry : model.entrySet()) {
+            int[] expected = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(expected, friendGraph.friendsOf(entry.getKey()).toArray(), "friends of " + entry.getKey());
+            assertEquals(expected.length, friendGraph.degree(entry.getKey()));
+            edges += expected.length;
+        }
+        assertEquals(edges, friendGraph.edgeCount());
+    }
+
+    @Test
+    void mutualFriendCountsMatchModel() {
+        SplittableRandom random = new SplittableRandom(7L);
+        int pairs = 20_000;
+        int[] userIdsA = new int[pairs];
+        int[] userIdsB = new int[pairs];
+        for (int i = 0; i < pairs; i++) {
+            userIdsA[i] = DatasetGenerator.FIRST_USER_ID + random.nextInt(USER_COUNT);
+            // 절반은 친구의 친구와 짝지어 공통 친구가 있는 쌍도 충분히 포함합니다.
+            TreeSet<Integer> friends = friendsInModel(userIdsA[i]);
+            userIdsB[i] = i % 2 == 0 && !friends.isEmpty()
+                    ? friendsInModel(friends.first()).last()
+                    : DatasetGenerator.FIRST_USER_ID + random.nextInt(USER_COUNT);
+        }
+
+        int[] counts = friendGraph.mutualFriendCounts(userIdsA, userIdsB);
+        for (int i = 0; i < pairs; i++) {
+            int expected = mutualFriendsInModel(userIdsA[i], userIdsB[i]);
+            assertEquals(expected, counts[i], "pair " + userIdsA[i] + ", " + userIdsB[i]);
+            assertEquals(expected, friendGraph.mutualFriends(userIdsA[i], userIdsB[i]).size());
+        }
+    }
+
+    @Test
+    void recommendationsMatchModel() {
+        SplittableRandom random = new SplittableRandom(11L);
+        for (int i = 0; i < 2_000; i++) {
+            int userId = DatasetGenerator.FIRST_USER_ID + random.nextInt(USER_COUNT);
+            int k = 1 + random.nextInt(10);
+            assertEquals(recommendInModel(userId, k), friendGraph.recommend(userId, k), "recommend " + userId + ", k=" + k);
+        }
+    }
+
+    @Test
+    void directedGraphKeepsRegisteredDirectionOnly() {
+        List<User> directedUsers = new ArrayList<>();
+        directedUsers.add(new User().setId(1).setFriends(FriendSet.of(1, 2, 3)));
+        directedUsers.add(new User().setId(2).setFriends(FriendSet.of(3)));
+        directedUsers.add(new User().setId(5).setFriends(FriendSet.EMPTY));
+
+        FriendGraph directed = FriendGraph.directed(directedUsers);
+
+        assertEquals(4, directed.vertexCount());
+        assertArrayEquals(new int[]{2, 3}, directed.friendsOf(1).toArray());
+        assertArrayEquals(new int[]{3}, directed.friendsOf(2).toArray());
+        assertArrayEquals(new int[0], directed.friendsOf(3).toArray());
+        assertEquals(1, directed.mutualFriendCount(1, 2));
+        assertEquals(0, directed.mutualFriendCount(1, 99));
+    }
+}
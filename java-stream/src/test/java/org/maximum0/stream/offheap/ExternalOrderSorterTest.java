@@ -0,0 +1,116 @@
+package org.maximum0.stream.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.maximum0.stream.offheap.OrderStoreTest.assertSameOrder;
+import static org.maximum0.stream.offheap.OrderStoreTest.randomOrders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.maximum0.stream.model.Order;
+
+/**
+ * ExternalOrderSorter의 결과를 sorted(comparator)와 비교합니다. (여러 런으로 나뉘는 작은 메모리 예산, 안정성, 임시 파일 정리)
+ */
+class ExternalOrderSorterTest {
+    private static final Comparator<Order> BY_CREATED_AT =
+            Comparator.comparing(Order::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+    // 같은 값이 많은 비교자. 안정 정렬이면 같은 상태 안에서 입력 순서(id 순)가 유지됩니다.
+    private static final Comparator<Order> BY_STATUS =
+            Comparator.comparing(Order::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @TempDir
+    Path tempDirectory;
+
+    private ExternalOrderSorter sorter(Comparator<Order> comparator, long memoryBudgetBytes) {
+        return ExternalOrderSorter.builder(comparator)
+                .with(builder -> {
+                    builder.memoryBudgetBytes = memoryBudgetBytes;
+                    builder.tempDirectory = tempDirectory;
+                })
+                .build();
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDirectory)) {
+            return files.filter(path -> !path.equals(tempDirectory)).collect(Collectors.toList());
+        }
+    }
+
+    private ExternalOrderSorter assertSortedLike(List<Order> orders, Comparator<Order> comparator, long memoryBudgetBytes)
+            throws IOException {
+        List<Order> expected = orders.stream().sorted(comparator).collect(Collectors.toList());
+        ExternalOrderSorter sorter = sorter(comparator, memoryBudgetBytes);
+        try (Stream<Order> sorted = sorter.sort(orders.stream())) {
+            List<Order> actual = sorted.collect(Collectors.toList());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSameOrder(expected.get(i), actual.get(i));
+            }
+        }
+        assertEquals(List.of(), tempFiles(), "runs must be deleted when the stream is closed");
+        return sorter;
+    }
+
+    @Test
+    void matchesSortedWithMultipleSpilledRuns() throws IOException {
+        List<Order> orders = randomOrders(42L, 20_000);
+        for (long memoryBudgetBytes : new long[]{16_000, 100_000, 1_000_000}) {
+            assertTrue(assertSortedLike(orders, BY_CREATED_AT, memoryBudgetBytes).getSpilledRuns() > 1);
+        }
+    }
+
+    @Test
+    void keepsInputOrderForEqualKeysAcrossRuns() throws IOException {
+        List<Order> orders = randomOrders(7L, 20_000);
+        assertSortedLike(orders, BY_STATUS, 16_000);
+        assertSortedLike(orders, BY_STATUS.reversed(), 50_000);
+    }
+
+    @Test
+    void sortsInMemoryWithinBudget() throws IOException {
+        List<Order> orders = randomOrders(11L, 1_000);
+        assertEquals(0, assertSortedLike(orders, BY_CREATED_AT, Long.MAX_VALUE).getSpilledRuns());
+    }
+
+    @Test
+    void spillsRunsUntilTheStreamIsClosed() throws IOException {
+        List<Order> orders = randomOrders(3L, 5_000);
+        ExternalOrderSorter sorter = sorter(BY_CREATED_AT, 16_000);
+        Stream<Order> sorted = sorter.sort(orders.stream());
+        try {
+            assertTrue(sorter.getSpilledRuns() > 1, "expected several runs: " + sorter.getSpilledRuns());
+            assertTrue(sorter.getSpilledOrders() > 0 && sorter.getSpilledOrders() <= orders.size());
+            assertTrue(!tempFiles().isEmpty(), "runs must stay until the stream is closed");
+            assertEquals(orders.size(), sorted.count());
+        } finally {
+            sorted.close();
+        }
+        assertEquals(List.of(), tempFiles());
+    }
+
+    @Test
+    void deletesRunsWhenTheInputFails() throws IOException {
+        Stream<Order> failing = randomOrders(5L, 5_000).stream()
+                .peek(order -> {
+                    if (order.getId() == 4_000) {
+                        throw new IllegalStateException("input failed");
+                    }
+                });
+        ExternalOrderSorter sorter = sorter(BY_CREATED_AT, 16_000);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> sorter.sort(failing));
+
+        assertEquals("input failed", e.getMessage());
+        assertTrue(sorter.getSpilledRuns() > 1);
+        assertEquals(List.of(), tempFiles());
+    }
+}
@@ -0,0 +1,185 @@
+package org.maximum0.stream.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.maximum0.common.Money;
+import org.maximum0.stream.model.Order;
+import org.maximum0.stream.model.Order.OrderStatus;
+import org.maximum0.stream.model.OrderLine;
+import org.maximum0.stream.model.OrderLine.OrderLineType;
+
+/**
+ * OrderStoreWriter로 기록한 주문을 OrderStore로 다시 읽어 모든 필드(null, 밀리초 아래 나노초 포함)가 그대로인지 확인합니다.
+ */
+class OrderStoreTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 버퍼를 여러 번 비울 만큼의 주문을 만듭니다. 일부 필드는 null이고, 생성 시각은 나노초 단위입니다.
+     */
+    static List<Order> randomOrders(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        OrderStatus[] statuses = OrderStatus.values();
+        OrderLineType[] lineTypes = OrderLineType.values();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<OrderLine> orderLines = new ArrayList<>();
+            int lineCount = random.nextInt(4);
+            for (int j = 0; j < lineCount; j++) {
+                orderLines.add(new OrderLine()
+                        .setId(i * 10L + j)
+                        .setType(random.nextInt(10) == 0 ? null : lineTypes[random.nextInt(lineTypes.length)])
+                        .setProductId(random.nextLong())
+                        .setQuantity(random.nextInt(-5, 100))
+                        .setAmount(random.nextInt(10) == 0 ? null : Money.ofMinor(random.nextLong(-1_000_000, 1_000_000))));
+            }
+            orders.add(new Order()
+                    .setId(i)
+                    .setCreatedAt(random.nextInt(10) == 0 ? null : BASE_TIME.plusNanos(random.nextLong(-1L << 50, 1L << 50)))
+                    .setCreatedByUserId(random.nextLong())
+                    .setStatus(random.nextInt(10) == 0 ? null : statuses[random.nextInt(statuses.length)])
+                    .setAmount(random.nextInt(10) == 0 ? null : Money.ofMinor(random.nextLong(-1_000_000_000, 1_000_000_000)))
+                    .setOrderLines(orderLines));
+        }
+        return orders;
+    }
+
+    static void assertSameOrder(Order expected, Order actual) {
+        String message = "order " + expected.getId();
+        assertEquals(expected.getId(), actual.getId(), message);
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt(), message);
+        assertEquals(expected.getCreatedByUserId(), actual.getCreatedByUserId(), message);
+        assertEquals(expected.getStatus(), actual.getStatus(), message);
+        assertEquals(expected.getAmount(), actual.getAmount(), message);
+        List<OrderLine> expectedLines = expected.getOrderLines() == null ? List.of() : expected.getOrderLines();
+        assertEquals(expectedLines.size(), actual.getOrderLines().size(), message);
+        for (int i = 0; i < expectedLines.size(); i++) {
+            OrderLine expectedLine = expectedLines.get(i);
+            OrderLine actualLine = actual.getOrderLines().get(i);
+            assertEquals(expectedLine.getId(), actualLine.getId(), message);
+            assertEquals(expectedLine.getType(), actualLine.getType(), message);
+            assertEquals(expectedLine.getProductId(), actualLine.getProductId(), message);
+            assertEquals(expectedLine.getQuantity(), actualLine.getQuantity(), message);
+            assertEquals(expectedLine.getAmount(), actualLine.getAmount(), message);
+        }
+    }
+
+    @Test
+    void roundTripPreservesEveryField() throws IOException {
+        List<Order> orders = randomOrders(42L, 20_000);
+        Path file = directory.resolve("orders.store");
+
+        assertEquals(orders.size(), OrderStoreWriter.write(file, orders.stream()));
+
+        try (OrderStore store = OrderStore.open(file)) {
+            assertEquals(orders.size(), store.size());
+            assertEquals(orders.stream().mapToLong(order -> order.getOrderLines().size()).sum(), store.lineCount());
+            List<Order> read = store.stream().collect(Collectors.toList());
+            for (int i = 0; i < orders.size(); i++) {
+                assertSameOrder(orders.get(i), read.get(i));
+            }
+        }
+        assertFalse(Files.exists(directory.resolve("orders.store.lines.tmp")));
+    }
+
+    @Test
+    void cursorReadsStatusAndNanosFromSeparateFields() throws IOException {
+        // 나노초의 세 바이트가 모두 채워지는 값과 상태를 함께 기록해 서로 덮어쓰지 않는지 확인합니다.
+        List<Order> orders = List.of(
+                new Order().setId(1).setStatus(OrderStatus.PROCESSED).setCreatedAt(BASE_TIME.plusNanos(999_999)),
+                new Order().setId(2).setStatus(null).setCreatedAt(BASE_TIME.plusNanos(123_456_789)),
+                new Order().setId(3).setStatus(OrderStatus.CREATED).setCreatedAt(null));
+        Path file = directory.resolve("cursor.store");
+        OrderStoreWriter.write(file, orders.stream());
+
+        try (OrderStore store = OrderStore.open(file)) {
+            OrderCursor cursor = store.cursor();
+            assertEquals(OrderStatus.PROCESSED, cursor.moveTo(0).getStatus());
+            assertEquals(999_999, cursor.getCreatedAtNanosOfMilli());
+            assertNull(cursor.moveTo(1).getStatus());
+            assertEquals(456_789, cursor.getCreatedAtNanosOfMilli());
+            assertEquals(OrderStatus.CREATED, cursor.moveTo(2).getStatus());
+            assertEquals(0, cursor.getCreatedAtNanosOfMilli());
+            for (int i = 0; i < orders.size(); i++) {
+                assertSameOrder(orders.get(i), cursor.moveTo(i).toOrder());
+            }
+        }
+    }
+
+    @Test
+    void nullOrderLinesComeBackEmpty() throws IOException {
+        Path file = directory.resolve("null-lines.store");
+        OrderStoreWriter.write(file, Stream.of(new Order().setId(7).setOrderLines(null)));
+
+        try (OrderStore store = OrderStore.open(file)) {
+            Order order = store.stream().findFirst().orElseThrow();
+            assertTrue(order.getOrderLines().isEmpty());
+            assertEquals(0, store.lineCount());
+        }
+    }
+
+    @Test
+    void emptyStreamWritesEmptyStore() throws IOException {
+        Path file = directory.resolve("empty.store");
+        assertEquals(0, OrderStoreWriter.write(file, Stream.empty()));
+
+        try (OrderStore store = OrderStore.open(file)) {
+            assertEquals(0, store.size());
+            assertEquals(0, store.stream().count());
+        }
+    }
+
+    @Test
+    void failedWriteLeavesNoFiles() throws IOException {
+        Path file = directory.resolve("failed.store");
+        // 이전에 완성된 저장소가 있어도, 실패한 기록이 그 자리에 완전해 보이는 파일을 남기면 안 됩니다.
+        OrderStoreWriter.write(file, randomOrders(1L, 10).stream());
+
+        Stream<Order> failing = IntStream.range(0, 10_000).mapToObj(i -> {
+            if (i == 5_000) {
+                throw new IllegalStateException("source failed");
+            }
+            return new Order().setId(i).setOrderLines(List.of(new OrderLine().setId(i)));
+        });
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> OrderStoreWriter.write(file, failing));
+
+        assertEquals("source failed", e.getMessage());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void abortedWriterDeletesFilesAndRejectsWrites() throws IOException {
+        Path file = directory.resolve("aborted.store");
+        OrderStoreWriter writer = new OrderStoreWriter(file);
+        writer.write(new Order().setId(1));
+        writer.abort();
+
+        assertThrows(IllegalStateException.class, () -> writer.write(new Order().setId(2)));
+        writer.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(), files.collect(Collectors.toList()));
+        }
+    }
+}